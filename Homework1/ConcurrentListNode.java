@@ -0,0 +1,50 @@
+import java.util.concurrent.atomic.AtomicMarkableReference;
+
+/**
+ * Node class used for implementing the LockFreeLinkedList. The next link
+ * carries a mark bit: once a node's next link is marked, the node has been
+ * logically deleted and nothing may be linked after it anymore.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class ConcurrentListNode<T> {
+    private final T data;
+    private final AtomicMarkableReference<ConcurrentListNode<T>> next;
+
+    /**
+     * Creates a new ConcurrentListNode with the given data and an unmarked,
+     * null next link.
+     *
+     * @param data the data stored in the new node
+     */
+    public ConcurrentListNode(T data) {
+        this.data = data;
+        this.next = new AtomicMarkableReference<>(null, false);
+    }
+
+    /**
+     * Gets the data stored in the node.
+     *
+     * @return the data in this node
+     */
+    public T getData() {
+        return data;
+    }
+
+    /**
+     * Gets the markable next link of this node.
+     *
+     * @return the next link
+     */
+    public AtomicMarkableReference<ConcurrentListNode<T>> getNext() {
+        return next;
+    }
+
+    @Override
+    public String toString() {
+        return "Node containing: " + data;
+    }
+}
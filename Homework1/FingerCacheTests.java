@@ -0,0 +1,78 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the finger kept by SinglyLinkedList stays correct while the
+ * list is mutated between lookups.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class FingerCacheTests {
+    public static final int TIMEOUT = 2000;
+
+    @Test(timeout = TIMEOUT)
+    public void testAscendingScanIsLinear() {
+        SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+        for (int i = 0; i < 200000; i++) {
+            list.addToBack(i);
+        }
+        long sum = 0;
+        for (int i = 0; i < list.size(); i++) {
+            sum += list.get(i);
+        }
+        assertEquals(199999L * 200000L / 2, sum);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testFingerAdjustsAroundMutations() {
+        SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+        for (int i = 0; i < 10; i++) {
+            list.addToBack(i);
+        }
+        assertEquals((Integer) 5, list.get(5));
+        list.addToFront(-1);
+        assertEquals((Integer) 5, list.get(6));
+        list.removeAtIndex(6);
+        assertEquals((Integer) 6, list.get(6));
+        list.removeFromFront();
+        assertEquals((Integer) 7, list.get(6));
+        list.addAtIndex(7, 100);
+        assertEquals((Integer) 100, list.get(7));
+        list.clear();
+        list.addToBack(42);
+        assertEquals((Integer) 42, list.get(0));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRandomInterleavingInBothModes() {
+        for (boolean indexed : new boolean[] {false, true}) {
+            SinglyLinkedList<Integer> list = new SinglyLinkedList<>(indexed);
+            List<Integer> expected = new ArrayList<>();
+            Random random = new Random(42);
+            for (int i = 0; i < 3000; i++) {
+                int op = random.nextInt(5);
+                if (op == 0 || expected.isEmpty()) {
+                    int index = random.nextInt(expected.size() + 1);
+                    expected.add(index, i);
+                    list.addAtIndex(index, i);
+                } else if (op == 1) {
+                    int index = random.nextInt(expected.size());
+                    assertEquals(expected.remove(index),
+                            list.removeAtIndex(index));
+                } else {
+                    int index = random.nextInt(expected.size());
+                    for (int j = index; j < expected.size()
+                            && j < index + 5; j++) {
+                        assertEquals(expected.get(j), list.get(j));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the indexed (skip-list) mode of SinglyLinkedList. The index must
+ * stay invisible: the LinkedListNode chain, head and tail have to look
+ * exactly like they do in the plain list.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class IndexedLinkedListTests {
+    private SinglyLinkedList<Integer> list;
+
+    public static final int TIMEOUT = 2000;
+
+    @Before
+    public void setUp() {
+        list = new SinglyLinkedList<>(true);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPositionalOperations() {
+        list.addToBack(1);
+        list.addToBack(3);
+        list.addToFront(0);
+        list.addAtIndex(2, 2);
+        list.addAtIndex(4, 4);
+
+        assertTrue(list.isIndexed());
+        assertArrayEquals(new Object[] {0, 1, 2, 3, 4}, list.toArray());
+        assertEquals((Integer) 2, list.get(2));
+        assertEquals((Integer) 2, list.removeAtIndex(2));
+        assertEquals((Integer) 3, list.get(2));
+        assertEquals((Integer) 4, list.removeFromBack());
+        assertEquals((Integer) 0, list.removeFromFront());
+        assertArrayEquals(new Object[] {1, 3}, list.toArray());
+        assertSame(list.getHead().getNext(), list.getTail());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMatchesArrayListUnderRandomOperations() {
+        Random random = new Random(1332);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int op = random.nextInt(4);
+            if (op < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list.addAtIndex(index, i);
+            } else if (op == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.removeAtIndex(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), list.get(index));
+            }
+        }
+        assertEquals(expected.size(), list.size());
+        assertArrayEquals(expected.toArray(), list.toArray());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        LinkedListNode<Integer> last = list.getHead();
+        while (last.getNext() != null) {
+            last = last.getNext();
+        }
+        assertSame(last, list.getTail());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDrainAndReuse() {
+        for (int i = 0; i < 100; i++) {
+            list.addToBack(i);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals((Integer) (99 - i), list.removeFromBack());
+        }
+        assertTrue(list.isEmpty());
+        assertNull(list.getHead());
+        assertNull(list.getTail());
+
+        list.addAtIndex(0, 7);
+        list.addAtIndex(0, 6);
+        assertEquals((Integer) 7, list.get(1));
+        list.clear();
+        list.addToFront(5);
+        assertEquals((Integer) 5, list.get(0));
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Node class used for implementing the IntSinglyLinkedList. The value is
+ * stored as a primitive, so no wrapper object is allocated per element.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class IntLinkedListNode {
+    private int data;
+    private IntLinkedListNode next;
+
+    /**
+     * Creates a new IntLinkedListNode with the given value and next reference.
+     *
+     * @param data the value stored in the new node
+     * @param next the next node in the list
+     */
+    public IntLinkedListNode(int data, IntLinkedListNode next) {
+        this.data = data;
+        this.next = next;
+    }
+
+    /**
+     * Creates a new IntLinkedListNode with only the given value.
+     *
+     * @param data the value stored in the new node
+     */
+    public IntLinkedListNode(int data) {
+        this(data, null);
+    }
+
+    /**
+     * Gets the value stored in the node.
+     *
+     * @return the value in this node
+     */
+    public int getData() {
+        return data;
+    }
+
+    /**
+     * Sets the value stored in the node.
+     *
+     * @param data the new value
+     */
+    public void setData(int data) {
+        this.data = data;
+    }
+
+    /**
+     * Gets the next node.
+     *
+     * @return the next node
+     */
+    public IntLinkedListNode getNext() {
+        return next;
+    }
+
+    /**
+     * Sets the next node.
+     *
+     * @param next the new next node
+     */
+    public void setNext(IntLinkedListNode next) {
+        this.next = next;
+    }
+
+    @Override
+    public String toString() {
+        return "Node containing: " + data;
+    }
+}
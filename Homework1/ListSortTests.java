@@ -0,0 +1,87 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for SinglyLinkedList.sort.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class ListSortTests {
+    public static final int TIMEOUT = 2000;
+
+    @Test(timeout = TIMEOUT)
+    public void testSortRandom() {
+        Random random = new Random(7);
+        SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int value = random.nextInt(500);
+            list.addToBack(value);
+            expected.add(value);
+        }
+        list.sort(Comparator.naturalOrder());
+        expected.sort(Comparator.naturalOrder());
+        assertArrayEquals(expected.toArray(), list.toArray());
+        assertNull(list.getTail().getNext());
+        assertEquals(expected.get(1999), list.getTail().getData());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSortedInputTakesOnePass() {
+        SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.addToBack(i);
+        }
+        LinkedListNode<Integer> head = list.getHead();
+        int[] comparisons = new int[1];
+        list.sort((a, b) -> {
+            comparisons[0]++;
+            return a.compareTo(b);
+        });
+        assertEquals(999, comparisons[0]);
+        assertSame(head, list.getHead());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSortIsStable() {
+        SinglyLinkedList<String> list = new SinglyLinkedList<>();
+        String[] words = {"bb", "a", "cc", "d", "ee", "f"};
+        for (String word : words) {
+            list.addToBack(word);
+        }
+        list.sort(Comparator.comparingInt(String::length));
+        assertArrayEquals(new Object[] {"a", "d", "f", "bb", "cc", "ee"},
+                list.toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSortKeepsIndexAndFingerValid() {
+        SinglyLinkedList<Integer> list = new SinglyLinkedList<>(true);
+        for (int i = 0; i < 500; i++) {
+            list.addToFront(i);
+        }
+        assertEquals((Integer) 249, list.get(250));
+        list.sort(Comparator.naturalOrder());
+        for (int i = 0; i < 500; i++) {
+            assertEquals((Integer) i, list.get(i));
+        }
+        assertEquals((Integer) 250, list.removeAtIndex(250));
+        assertEquals((Integer) 251, list.get(250));
+        assertEquals((Integer) 499, list.removeFromBack());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testNullComparator() {
+        new SinglyLinkedList<Integer>().sort(null);
+    }
+}
@@ -0,0 +1,189 @@
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A lock-free singly linked list mirroring the {@code addToFront},
+ * {@code addToBack}, {@code removeFromFront} and {@code indexOf} operations
+ * of SinglyLinkedList, safe to share between threads without locking.
+ *
+ * The list hangs off a sentinel head node. Following Harris and Michael,
+ * every next link carries a mark bit, and removal is done in two steps:
+ * <ol>
+ * <li>the remover marks the sentinel's link, which claims the first node
+ * and is the point where the removal takes effect, and then marks that
+ * node's own link, which stops a concurrent {@code addToBack} from
+ * appending after a node that is being unlinked;</li>
+ * <li>the node is physically unlinked from the sentinel.</li>
+ * </ol>
+ * Any thread that finds a marked link finishes the pending removal before
+ * retrying its own operation, so no thread ever waits on another.
+ *
+ * The tail pointer is only a hint: {@code addToBack} walks forward from it
+ * to the real last node.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class LockFreeLinkedList<T> {
+    private final ConcurrentListNode<T> head = new ConcurrentListNode<>(null);
+    private final AtomicReference<ConcurrentListNode<T>> tail =
+            new AtomicReference<>(head);
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Adds the element to the front of the list.
+     *
+     * Lock-free; O(1) when uncontended.
+     *
+     * @param data the data for the new element
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        ConcurrentListNode<T> node = new ConcurrentListNode<>(data);
+        boolean[] marked = new boolean[1];
+        while (true) {
+            ConcurrentListNode<T> first = head.getNext().get(marked);
+            if (marked[0]) {
+                finishRemoveFront(first);
+                continue;
+            }
+            node.getNext().set(first, false);
+            if (head.getNext().compareAndSet(first, node, false, false)) {
+                size.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Adds the element to the back of the list.
+     *
+     * Lock-free; O(1) when uncontended and the tail hint is current.
+     *
+     * @param data the data for the new element
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        ConcurrentListNode<T> node = new ConcurrentListNode<>(data);
+        boolean[] marked = new boolean[1];
+        while (true) {
+            ConcurrentListNode<T> last = tail.get();
+            ConcurrentListNode<T> next = last.getNext().get(marked);
+            if (marked[0]) {
+                if (last == head) {
+                    finishRemoveFront(next);
+                } else {
+                    // last was removed from the front; start over
+                    tail.compareAndSet(last, head);
+                }
+            } else if (next != null) {
+                tail.compareAndSet(last, next);
+            } else if (last.getNext().compareAndSet(null, node, false,
+                    false)) {
+                tail.compareAndSet(last, node);
+                size.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the element at the front of the list. If the list
+     * is empty, return {@code null}.
+     *
+     * Lock-free; O(1) when uncontended.
+     *
+     * @return the data formerly located at the front, null if empty list
+     */
+    public T removeFromFront() {
+        boolean[] marked = new boolean[1];
+        while (true) {
+            ConcurrentListNode<T> first = head.getNext().get(marked);
+            if (marked[0]) {
+                finishRemoveFront(first);
+            } else if (first == null) {
+                return null;
+            } else if (head.getNext().compareAndSet(first, first, false,
+                    true)) {
+                finishRemoveFront(first);
+                size.decrementAndGet();
+                return first.getData();
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the first occurrence of the passed in data in the
+     * list or -1 if it is not in the list.
+     *
+     * The traversal is weakly consistent: it never fails under concurrent
+     * updates, but may or may not observe elements added or removed while it
+     * runs. O(n).
+     *
+     * @param data the data to search for
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @return the index of the first occurrence or -1 if not in the list
+     */
+    public int indexOf(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        int index = 0;
+        for (ConcurrentListNode<T> curr = head.getNext().getReference();
+                curr != null; curr = curr.getNext().getReference()) {
+            if (curr.getNext().isMarked()) {
+                continue;
+            }
+            if (data.equals(curr.getData())) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a boolean value indicating if the list is empty.
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list. Under concurrent updates
+     * this is a momentary estimate.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return Math.max(0, size.get());
+    }
+
+    /**
+     * Completes the removal of first, which has been claimed by marking the
+     * sentinel's link: freezes first's own link so nothing can be appended
+     * after it, then unlinks it. Safe to call from any number of threads.
+     *
+     * @param first the node claimed for removal
+     */
+    private void finishRemoveFront(ConcurrentListNode<T> first) {
+        boolean[] marked = new boolean[1];
+        ConcurrentListNode<T> succ = first.getNext().get(marked);
+        while (!marked[0]) {
+            first.getNext().compareAndSet(succ, succ, false, true);
+            succ = first.getNext().get(marked);
+        }
+        head.getNext().compareAndSet(first, succ, true, false);
+        tail.compareAndSet(first, succ == null ? head : succ);
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * Multi-threaded throughput benchmark comparing LockFreeLinkedList with a
+ * SinglyLinkedList guarded by {@code synchronized}.
+ *
+ * Every thread runs the same queue-like mix: add to the back, add to the
+ * front now and then, and remove from the front. The benchmark prints
+ * millions of operations per second for each thread count.
+ *
+ * Run with {@code java LockFreeLinkedListBenchmark [opsPerThread]}.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class LockFreeLinkedListBenchmark {
+
+    /**
+     * Runs the benchmark for 1, 2, 4, ... threads up to the number of cores.
+     *
+     * @param args optional number of operations per thread
+     * @throws InterruptedException if interrupted while joining workers
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int ops = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        int cores = Runtime.getRuntime().availableProcessors();
+        run(Math.max(1, cores), ops / 10);
+        System.out.printf("%8s %20s %20s%n", "threads", "synchronized Mops/s",
+                "lock-free Mops/s");
+        for (int threads = 1; threads <= Math.max(2, cores); threads *= 2) {
+            double[] result = run(threads, ops);
+            System.out.printf("%8d %20.2f %20.2f%n", threads, result[0],
+                    result[1]);
+        }
+    }
+
+    /**
+     * Measures both lists at one thread count.
+     *
+     * @param threads the number of threads
+     * @param ops the number of operations per thread
+     * @return synchronized and lock-free throughput in Mops/s
+     * @throws InterruptedException if interrupted while joining workers
+     */
+    private static double[] run(int threads, int ops)
+        throws InterruptedException {
+        SinglyLinkedList<Integer> locked = new SinglyLinkedList<>();
+        LockFreeLinkedList<Integer> lockFree = new LockFreeLinkedList<>();
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < ops; i++) {
+                    synchronized (locked) {
+                        if ((i & 7) == 0) {
+                            locked.addToFront(i);
+                        } else {
+                            locked.addToBack(i);
+                        }
+                    }
+                    synchronized (locked) {
+                        locked.removeFromFront();
+                    }
+                }
+            });
+        }
+        double lockedRate = time(workers, threads * ops * 2L);
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < ops; i++) {
+                    if ((i & 7) == 0) {
+                        lockFree.addToFront(i);
+                    } else {
+                        lockFree.addToBack(i);
+                    }
+                    lockFree.removeFromFront();
+                }
+            });
+        }
+        double lockFreeRate = time(workers, threads * ops * 2L);
+        return new double[] {lockedRate, lockFreeRate};
+    }
+
+    /**
+     * Starts the workers, waits for all of them and converts the elapsed
+     * time to a rate.
+     *
+     * @param workers the threads to run
+     * @param totalOps the number of operations all workers perform together
+     * @return the throughput in Mops/s
+     * @throws InterruptedException if interrupted while joining workers
+     */
+    private static double time(Thread[] workers, long totalOps)
+        throws InterruptedException {
+        long start = System.nanoTime();
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return totalOps / ((System.nanoTime() - start) / 1e3);
+    }
+}
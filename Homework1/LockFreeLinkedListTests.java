@@ -0,0 +1,86 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for LockFreeLinkedList, single-threaded and under contention.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class LockFreeLinkedListTests {
+    private LockFreeLinkedList<Integer> list;
+
+    public static final int TIMEOUT = 10000;
+
+    @Before
+    public void setUp() {
+        list = new LockFreeLinkedList<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSingleThreaded() {
+        assertNull(list.removeFromFront());
+        list.addToBack(2);
+        list.addToFront(1);
+        list.addToBack(3);
+        assertEquals(3, list.size());
+        assertEquals(0, list.indexOf(1));
+        assertEquals(2, list.indexOf(3));
+        assertEquals(-1, list.indexOf(4));
+        assertEquals((Integer) 1, list.removeFromFront());
+        assertEquals((Integer) 2, list.removeFromFront());
+        assertEquals((Integer) 3, list.removeFromFront());
+        assertNull(list.removeFromFront());
+        assertTrue(list.isEmpty());
+        list.addToBack(4);
+        assertEquals(0, list.indexOf(4));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testConcurrentAddAndRemoveLosesNothing() throws Exception {
+        final int threads = 4;
+        final int perThread = 50000;
+        AtomicIntegerArray seen = new AtomicIntegerArray(threads * perThread);
+        Thread[] workers = new Thread[threads * 2];
+        for (int t = 0; t < threads; t++) {
+            final int base = t * perThread;
+            final boolean front = t % 2 == 0;
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    if (front) {
+                        list.addToFront(base + i);
+                    } else {
+                        list.addToBack(base + i);
+                    }
+                }
+            });
+            workers[threads + t] = new Thread(() -> {
+                int taken = 0;
+                while (taken < perThread) {
+                    Integer value = list.removeFromFront();
+                    if (value != null) {
+                        seen.incrementAndGet(value);
+                        taken++;
+                    }
+                }
+            });
+        }
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        for (int i = 0; i < seen.length(); i++) {
+            assertEquals(1, seen.get(i));
+        }
+        assertNull(list.removeFromFront());
+        assertEquals(0, list.size());
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Node class used for implementing the LongSinglyLinkedList. The value is
+ * stored as a primitive, so no wrapper object is allocated per element.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class LongLinkedListNode {
+    private long data;
+    private LongLinkedListNode next;
+
+    /**
+     * Creates a new LongLinkedListNode with the given value and next reference.
+     *
+     * @param data the value stored in the new node
+     * @param next the next node in the list
+     */
+    public LongLinkedListNode(long data, LongLinkedListNode next) {
+        this.data = data;
+        this.next = next;
+    }
+
+    /**
+     * Creates a new LongLinkedListNode with only the given value.
+     *
+     * @param data the value stored in the new node
+     */
+    public LongLinkedListNode(long data) {
+        this(data, null);
+    }
+
+    /**
+     * Gets the value stored in the node.
+     *
+     * @return the value in this node
+     */
+    public long getData() {
+        return data;
+    }
+
+    /**
+     * Sets the value stored in the node.
+     *
+     * @param data the new value
+     */
+    public void setData(long data) {
+        this.data = data;
+    }
+
+    /**
+     * Gets the next node.
+     *
+     * @return the next node
+     */
+    public LongLinkedListNode getNext() {
+        return next;
+    }
+
+    /**
+     * Sets the next node.
+     *
+     * @param next the new next node
+     */
+    public void setNext(LongLinkedListNode next) {
+        this.next = next;
+    }
+
+    @Override
+    public String toString() {
+        return "Node containing: " + data;
+    }
+}
@@ -0,0 +1,271 @@
+import java.util.NoSuchElementException;
+
+/**
+ * A non-circular singly linked list with a tail pointer that stores
+ * primitive longs. It mirrors SinglyLinkedList, but no value is ever boxed,
+ * so each element costs one small node instead of a node plus a Long.
+ *
+ * Since a long cannot be null, the remove-from-end methods throw
+ * NoSuchElementException on an empty list instead of returning null.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class LongSinglyLinkedList {
+    private LongLinkedListNode head;
+    private LongLinkedListNode tail;
+    private int size;
+
+    /**
+     * Adds the value to the index specified.
+     *
+     * Adding to indices 0 and {@code size} is O(1), all other cases are
+     * O(n).
+     *
+     * @param index the requested index for the new value
+     * @param data the new value
+     * @throws java.lang.IndexOutOfBoundsException if index is negative or
+     * index > size
+     */
+    public void addAtIndex(int index, long data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("index is out of bounds");
+        }
+        if (index == 0) {
+            addToFront(data);
+        } else if (index == size) {
+            addToBack(data);
+        } else {
+            LongLinkedListNode prev = nodeAt(index - 1);
+            prev.setNext(new LongLinkedListNode(data, prev.getNext()));
+            size++;
+        }
+    }
+
+    /**
+     * Adds the value to the front of the list.
+     *
+     * Must be O(1) for all cases.
+     *
+     * @param data the new value
+     */
+    public void addToFront(long data) {
+        head = new LongLinkedListNode(data, head);
+        if (tail == null) {
+            tail = head;
+        }
+        size++;
+    }
+
+    /**
+     * Adds the value to the back of the list.
+     *
+     * Must be O(1) for all cases.
+     *
+     * @param data the new value
+     */
+    public void addToBack(long data) {
+        LongLinkedListNode newNode = new LongLinkedListNode(data);
+        if (tail == null) {
+            head = newNode;
+        } else {
+            tail.setNext(newNode);
+        }
+        tail = newNode;
+        size++;
+    }
+
+    /**
+     * Removes and returns the value from the index specified.
+     *
+     * Removing from index 0 is O(1), all other cases are O(n).
+     *
+     * @param index the requested index to be removed
+     * @return the value formerly located at index
+     * @throws java.lang.IndexOutOfBoundsException if index is negative or
+     * index >= size
+     */
+    public long removeAtIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index is out of bounds");
+        }
+        if (index == 0) {
+            return removeFromFront();
+        }
+        LongLinkedListNode prev = nodeAt(index - 1);
+        LongLinkedListNode removed = prev.getNext();
+        prev.setNext(removed.getNext());
+        if (removed == tail) {
+            tail = prev;
+        }
+        size--;
+        return removed.getData();
+    }
+
+    /**
+     * Removes and returns the value at the front of the list.
+     *
+     * Must be O(1) for all cases.
+     *
+     * @return the value formerly located at the front
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public long removeFromFront() {
+        if (head == null) {
+            throw new NoSuchElementException("the list is empty");
+        }
+        long data = head.getData();
+        head = head.getNext();
+        if (head == null) {
+            tail = null;
+        }
+        size--;
+        return data;
+    }
+
+    /**
+     * Removes and returns the value at the back of the list.
+     *
+     * Must be O(n) for all cases.
+     *
+     * @return the value formerly located at the back
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public long removeFromBack() {
+        if (tail == null) {
+            throw new NoSuchElementException("the list is empty");
+        }
+        if (head == tail) {
+            return removeFromFront();
+        }
+        return removeAtIndex(size - 1);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the value in the list or
+     * -1 if it is not in the list.
+     *
+     * If the value is in the head, O(1). In all other cases, O(n).
+     *
+     * @param data the value to search for
+     * @return the index of the first occurrence or -1 if not in the list
+     */
+    public int indexOf(long data) {
+        int index = 0;
+        for (LongLinkedListNode curr = head; curr != null;
+                curr = curr.getNext()) {
+            if (curr.getData() == data) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the value at the specified index.
+     *
+     * Getting the head and tail is O(1), all other cases are O(n).
+     *
+     * @param index the index of the requested value
+     * @return the value stored at index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or
+     * index >= size
+     */
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index is out of bounds");
+        }
+        if (index == size - 1) {
+            return tail.getData();
+        }
+        return nodeAt(index).getData();
+    }
+
+    /**
+     * Returns a long array holding the values of the list.
+     *
+     * Must be O(n) for all cases.
+     *
+     * @return an array of length {@code size} holding all of the values in
+     * this list in the same order
+     */
+    public long[] toLongArray() {
+        long[] array = new long[size];
+        int i = 0;
+        for (LongLinkedListNode curr = head; curr != null;
+                curr = curr.getNext()) {
+            array[i++] = curr.getData();
+        }
+        return array;
+    }
+
+    /**
+     * Returns a boolean value indicating if the list is empty.
+     *
+     * Must be O(1) for all cases.
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the list of all values and resets the size.
+     *
+     * Must be O(1) for all cases.
+     */
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    /**
+     * Walks from the head to the node at the given index.
+     *
+     * @param index the index of the node, 0 <= index < size
+     * @return the node at index
+     */
+    private LongLinkedListNode nodeAt(int index) {
+        LongLinkedListNode curr = head;
+        for (int i = 0; i < index; i++) {
+            curr = curr.getNext();
+        }
+        return curr;
+    }
+
+    /**
+     * Returns the number of values in the list.
+     *
+     * Runs in O(1) for all cases.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the head node of the linked list.
+     * Normally, you would not do this, but it's necessary for testing purposes.
+     *
+     * @return node at the head of the linked list
+     */
+    public LongLinkedListNode getHead() {
+        return head;
+    }
+
+    /**
+     * Returns the tail node of the linked list.
+     * Normally, you would not do this, but it's necessary for testing purposes.
+     *
+     * @return node at the tail of the linked list
+     */
+    public LongLinkedListNode getTail() {
+        return tail;
+    }
+}
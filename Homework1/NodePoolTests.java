@@ -0,0 +1,70 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for node recycling in SinglyLinkedList.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class NodePoolTests {
+    private SinglyLinkedList<Integer> list;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        list = new SinglyLinkedList<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testNoReuseByDefault() {
+        list.addToBack(1);
+        list.removeFromFront();
+        list.addToBack(2);
+        assertEquals(2, list.getNodeAllocations());
+        assertEquals(0, list.getNodeReuses());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testQueueChurnReusesNodes() {
+        list.setNodePoolCapacity(4);
+        for (int i = 0; i < 3; i++) {
+            list.addToBack(i);
+        }
+        for (int i = 3; i < 1000; i++) {
+            assertEquals((Integer) (i - 3), list.removeFromFront());
+            list.addToBack(i);
+        }
+        assertEquals(3, list.getNodeAllocations());
+        assertEquals(997, list.getNodeReuses());
+        assertArrayEquals(new Object[] {997, 998, 999}, list.toArray());
+        assertNull(list.getTail().getNext());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPoolIsBounded() {
+        list.setNodePoolCapacity(2);
+        for (int i = 0; i < 5; i++) {
+            list.addToFront(i);
+        }
+        while (!list.isEmpty()) {
+            list.removeFromBack();
+        }
+        for (int i = 0; i < 5; i++) {
+            list.addAtIndex(i, i);
+        }
+        assertEquals(8, list.getNodeAllocations());
+        assertEquals(2, list.getNodeReuses());
+        assertArrayEquals(new Object[] {0, 1, 2, 3, 4}, list.toArray());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testNegativeCapacity() {
+        list.setNodePoolCapacity(-1);
+    }
+}
@@ -0,0 +1,82 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for IntSinglyLinkedList and LongSinglyLinkedList.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class PrimitiveLinkedListTests {
+    private IntSinglyLinkedList ints;
+    private LongSinglyLinkedList longs;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        ints = new IntSinglyLinkedList();
+        longs = new LongSinglyLinkedList();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIntAddAndRemove() {
+        ints.addToBack(2);
+        ints.addToFront(0);
+        ints.addAtIndex(1, 1);
+        ints.addAtIndex(3, 3);
+        assertArrayEquals(new int[] {0, 1, 2, 3}, ints.toIntArray());
+        assertEquals(2, ints.get(2));
+        assertEquals(3, ints.indexOf(3));
+        assertEquals(-1, ints.indexOf(4));
+
+        assertEquals(1, ints.removeAtIndex(1));
+        assertEquals(3, ints.removeFromBack());
+        assertEquals(0, ints.removeFromFront());
+        assertSame(ints.getHead(), ints.getTail());
+        assertEquals(2, ints.removeFromBack());
+        assertTrue(ints.isEmpty());
+        assertNull(ints.getTail());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testIntRemoveFromEmpty() {
+        ints.removeFromFront();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testIntGetOutOfBounds() {
+        ints.addToBack(1);
+        ints.get(-1);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLongAddAndRemove() {
+        long big = 1L << 40;
+        longs.addToBack(big);
+        longs.addToBack(big + 2);
+        longs.addAtIndex(1, big + 1);
+        assertArrayEquals(new long[] {big, big + 1, big + 2},
+                longs.toLongArray());
+        assertEquals(1, longs.indexOf(big + 1));
+        assertEquals(big + 2, longs.get(2));
+        assertEquals(big + 2, longs.removeFromBack());
+        assertEquals(big, longs.removeAtIndex(0));
+        longs.clear();
+        assertEquals(0, longs.size());
+        assertArrayEquals(new long[0], longs.toLongArray());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testLongRemoveFromEmpty() {
+        longs.removeFromBack();
+    }
+}
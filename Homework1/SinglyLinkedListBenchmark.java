@@ -0,0 +1,76 @@
+/**
+ * Microbenchmark for index-based scans over SinglyLinkedList.
+ *
+ * An ascending {@code for (i...) list.get(i)} loop resumes from the finger
+ * each time, so its cost grows linearly with n. A descending loop always
+ * lands before the finger and has to restart from the head, which is the
+ * quadratic behavior every scan had before the finger existed. Doubling n
+ * should roughly double the first column and quadruple the second.
+ *
+ * Run with {@code java SinglyLinkedListBenchmark}.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class SinglyLinkedListBenchmark {
+
+    /**
+     * Runs the benchmark and prints one line per list size.
+     *
+     * @param args unused
+     */
+    public static void main(String[] args) {
+        // warm up the JIT before measuring
+        for (int i = 0; i < 5; i++) {
+            scan(build(2000), true);
+            scan(build(2000), false);
+        }
+        System.out.printf("%8s %16s %16s%n", "n", "ascending (ms)",
+                "descending (ms)");
+        for (int n = 2000; n <= 32000; n *= 2) {
+            SinglyLinkedList<Integer> list = build(n);
+            long start = System.nanoTime();
+            long check = scan(list, true);
+            long ascending = System.nanoTime() - start;
+            start = System.nanoTime();
+            check -= scan(list, false);
+            long descending = System.nanoTime() - start;
+            if (check != 0) {
+                throw new IllegalStateException("scans disagree");
+            }
+            System.out.printf("%8d %16.3f %16.3f%n", n, ascending / 1e6,
+                    descending / 1e6);
+        }
+    }
+
+    /**
+     * Builds a list holding 0 through n - 1.
+     *
+     * @param n the number of elements
+     * @return the list
+     */
+    private static SinglyLinkedList<Integer> build(int n) {
+        SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+        for (int i = 0; i < n; i++) {
+            list.addToBack(i);
+        }
+        return list;
+    }
+
+    /**
+     * Sums the list with get(i) in ascending or descending index order.
+     *
+     * @param list the list to scan
+     * @param ascending true to scan from index 0 upwards
+     * @return the sum of the elements
+     */
+    private static long scan(SinglyLinkedList<Integer> list,
+            boolean ascending) {
+        long sum = 0;
+        int n = list.size();
+        for (int i = 0; i < n; i++) {
+            sum += list.get(ascending ? i : n - 1 - i);
+        }
+        return sum;
+    }
+}
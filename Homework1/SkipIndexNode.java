@@ -0,0 +1,107 @@
+/**
+ * Index node used by the indexed mode of SinglyLinkedList. Index nodes form
+ * the express lanes of a skip list that sits on top of the regular chain of
+ * LinkedListNodes. Each index node remembers the data node it stands for,
+ * and how many positions the list advances when following its right link.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class SkipIndexNode<T> {
+    private LinkedListNode<T> node;
+    private SkipIndexNode<T> right;
+    private SkipIndexNode<T> down;
+    private int span;
+
+    /**
+     * Creates a new SkipIndexNode standing for the given data node.
+     *
+     * @param node the data node, null for the head sentinel of a level
+     * @param down the index node one level below, null on the lowest level
+     */
+    public SkipIndexNode(LinkedListNode<T> node, SkipIndexNode<T> down) {
+        this.node = node;
+        this.down = down;
+    }
+
+    /**
+     * Gets the data node this index node stands for.
+     *
+     * @return the data node, null for a head sentinel
+     */
+    public LinkedListNode<T> getNode() {
+        return node;
+    }
+
+    /**
+     * Sets the data node this index node stands for.
+     *
+     * @param node the new data node
+     */
+    public void setNode(LinkedListNode<T> node) {
+        this.node = node;
+    }
+
+    /**
+     * Gets the next index node on the same level.
+     *
+     * @return the right index node
+     */
+    public SkipIndexNode<T> getRight() {
+        return right;
+    }
+
+    /**
+     * Sets the next index node on the same level.
+     *
+     * @param right the new right index node
+     */
+    public void setRight(SkipIndexNode<T> right) {
+        this.right = right;
+    }
+
+    /**
+     * Gets the index node one level below.
+     *
+     * @return the down index node
+     */
+    public SkipIndexNode<T> getDown() {
+        return down;
+    }
+
+    /**
+     * Sets the index node one level below.
+     *
+     * @param down the new down index node
+     */
+    public void setDown(SkipIndexNode<T> down) {
+        this.down = down;
+    }
+
+    /**
+     * Gets the number of list positions between this index node and its
+     * right index node. Only meaningful while the right link is non-null.
+     *
+     * @return the span of the right link
+     */
+    public int getSpan() {
+        return span;
+    }
+
+    /**
+     * Sets the number of list positions between this index node and its
+     * right index node.
+     *
+     * @param span the new span of the right link
+     */
+    public void setSpan(int span) {
+        this.span = span;
+    }
+
+    @Override
+    public String toString() {
+        return "Index node for: " + node + " (span " + span + ")";
+    }
+}
@@ -0,0 +1,399 @@
+/**
+ * An unrolled singly linked list with a tail pointer. It offers the same
+ * operations as SinglyLinkedList, but each node stores a block of up to
+ * {@code nodeCapacity} elements in an array, so traversals follow one
+ * pointer per block instead of one pointer per element.
+ *
+ * Every node except the last is kept at least half full, so an index walk
+ * visits at most about {@code 2 * size / nodeCapacity} nodes.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class UnrolledLinkedList<T> {
+
+    /**
+     * The number of elements each node holds when no capacity is given.
+     */
+    public static final int DEFAULT_NODE_CAPACITY = 32;
+
+    private UnrolledListNode<T> head;
+    private UnrolledListNode<T> tail;
+    private int size;
+    private final int nodeCapacity;
+
+    /**
+     * Constructs a new UnrolledLinkedList whose nodes each hold
+     * {@code DEFAULT_NODE_CAPACITY} elements.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Constructs a new UnrolledLinkedList whose nodes each hold
+     * {@code nodeCapacity} elements.
+     *
+     * @param nodeCapacity the number of elements stored per node
+     * @throws java.lang.IllegalArgumentException if nodeCapacity < 2
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException(
+                    "node capacity must be at least 2");
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * Adds the element to the index specified.
+     *
+     * Adding to indices 0 and {@code size} is O(nodeCapacity), all other
+     * cases are O(n / nodeCapacity + nodeCapacity).
+     *
+     * @param index the requested index for the new element
+     * @param data the data for the new element
+     * @throws java.lang.IndexOutOfBoundsException if index is negative or
+     * index > size
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addAtIndex(int index, T data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("index is out of bounds");
+        }
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        if (index == size) {
+            addToBack(data);
+            return;
+        }
+        UnrolledListNode<T> node = head;
+        int offset = index;
+        while (offset >= node.getCount()) {
+            offset -= node.getCount();
+            node = node.getNext();
+        }
+        if (node.getCount() == nodeCapacity) {
+            UnrolledListNode<T> newNode = splitAfter(node);
+            if (offset > node.getCount()) {
+                offset -= node.getCount();
+                node = newNode;
+            }
+        }
+        node.insert(offset, data);
+        size++;
+    }
+
+    /**
+     * Adds the element to the front of the list.
+     *
+     * Must be O(nodeCapacity) for all cases.
+     *
+     * @param data the data for the new element
+     * @throws java.lang.IllegalArgumentException if data is null.
+     */
+    public void addToFront(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        if (head == null) {
+            head = new UnrolledListNode<>(nodeCapacity);
+            tail = head;
+        } else if (head.getCount() == nodeCapacity) {
+            splitAfter(head);
+        }
+        head.insert(0, data);
+        size++;
+    }
+
+    /**
+     * Adds the element to the back of the list.
+     *
+     * Must be O(1) for all cases.
+     *
+     * @param data the data for the new element
+     * @throws java.lang.IllegalArgumentException if data is null.
+     */
+    public void addToBack(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        if (tail == null) {
+            tail = new UnrolledListNode<>(nodeCapacity);
+            head = tail;
+        } else if (tail.getCount() == nodeCapacity) {
+            UnrolledListNode<T> newNode = new UnrolledListNode<>(nodeCapacity);
+            tail.setNext(newNode);
+            tail = newNode;
+        }
+        tail.insert(tail.getCount(), data);
+        size++;
+    }
+
+    /**
+     * Removes and returns the element from the index specified.
+     *
+     * Removing from index 0 is O(nodeCapacity), all other cases are
+     * O(n / nodeCapacity + nodeCapacity).
+     *
+     * @param index the requested index to be removed
+     * @return the data formerly located at index
+     * @throws java.lang.IndexOutOfBoundsException if index is negative or
+     * index >= size
+     */
+    public T removeAtIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index is out of bounds");
+        }
+        UnrolledListNode<T> prev = null;
+        UnrolledListNode<T> node = head;
+        int offset = index;
+        while (offset >= node.getCount()) {
+            offset -= node.getCount();
+            prev = node;
+            node = node.getNext();
+        }
+        T data = node.remove(offset);
+        size--;
+        rebalance(prev, node);
+        return data;
+    }
+
+    /**
+     * Removes and returns the element at the front of the list. If the list is
+     * empty, return {@code null}.
+     *
+     * Must be O(nodeCapacity) for all cases.
+     *
+     * @return the data formerly located at the front, null if empty list
+     */
+    public T removeFromFront() {
+        if (head == null) {
+            return null;
+        }
+        T data = head.remove(0);
+        size--;
+        rebalance(null, head);
+        return data;
+    }
+
+    /**
+     * Removes and returns the element at the back of the list. If the list is
+     * empty, return {@code null}.
+     *
+     * O(1) unless the last node becomes empty, in which case the walk to the
+     * new last node is O(n / nodeCapacity).
+     *
+     * @return the data formerly located at the back, null if empty list
+     */
+    public T removeFromBack() {
+        if (tail == null) {
+            return null;
+        }
+        T data = tail.remove(tail.getCount() - 1);
+        size--;
+        if (tail.getCount() == 0) {
+            if (head == tail) {
+                head = null;
+                tail = null;
+            } else {
+                UnrolledListNode<T> prev = head;
+                while (prev.getNext() != tail) {
+                    prev = prev.getNext();
+                }
+                prev.setNext(null);
+                tail = prev;
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the passed in data in the
+     * list or -1 if it is not in the list.
+     *
+     * O(n) in the worst case, walking n / nodeCapacity nodes.
+     *
+     * @param data the data to search for
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @return the index of the first occurrence or -1 if not in the list
+     */
+    public int indexOf(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        int base = 0;
+        for (UnrolledListNode<T> node = head; node != null;
+                node = node.getNext()) {
+            for (int i = 0; i < node.getCount(); i++) {
+                if (data.equals(node.get(i))) {
+                    return base + i;
+                }
+            }
+            base += node.getCount();
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * Getting the head and tail is O(1), all other cases are
+     * O(n / nodeCapacity).
+     *
+     * @param index the index of the requested element
+     * @return the object stored at index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or
+     * index >= size
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index is out of bounds");
+        }
+        int tailStart = size - tail.getCount();
+        if (index >= tailStart) {
+            return tail.get(index - tailStart);
+        }
+        UnrolledListNode<T> node = head;
+        int offset = index;
+        while (offset >= node.getCount()) {
+            offset -= node.getCount();
+            node = node.getNext();
+        }
+        return node.get(offset);
+    }
+
+    /**
+     * Returns an array representation of the linked list.
+     *
+     * Must be O(n) for all cases.
+     *
+     * @return an array of length {@code size} holding all of the objects in
+     * this list in the same order
+     */
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int base = 0;
+        for (UnrolledListNode<T> node = head; node != null;
+                node = node.getNext()) {
+            node.copyTo(array, base);
+            base += node.getCount();
+        }
+        return array;
+    }
+
+    /**
+     * Returns a boolean value indicating if the list is empty.
+     *
+     * Must be O(1) for all cases.
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the list of all data and resets the size.
+     *
+     * Must be O(1) for all cases.
+     */
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    /**
+     * Splits a full node in two, linking the new node right after it.
+     *
+     * @param node the full node to split
+     * @return the new node holding the upper half of the elements
+     */
+    private UnrolledListNode<T> splitAfter(UnrolledListNode<T> node) {
+        UnrolledListNode<T> newNode = new UnrolledListNode<>(nodeCapacity);
+        node.splitInto(newNode);
+        newNode.setNext(node.getNext());
+        node.setNext(newNode);
+        if (tail == node) {
+            tail = newNode;
+        }
+        return newNode;
+    }
+
+    /**
+     * Restores the half-full invariant after an element was removed from
+     * node: empty nodes are unlinked, and underfull nodes either merge with
+     * or borrow from their successor.
+     *
+     * @param prev the node before node, null if node is the head
+     * @param node the node an element was just removed from
+     */
+    private void rebalance(UnrolledListNode<T> prev, UnrolledListNode<T> node) {
+        if (node.getCount() == 0) {
+            unlink(prev, node);
+            return;
+        }
+        UnrolledListNode<T> next = node.getNext();
+        if (next == null || node.getCount() >= nodeCapacity / 2) {
+            return;
+        }
+        if (node.getCount() + next.getCount() <= nodeCapacity) {
+            node.takeFrom(next, next.getCount());
+            unlink(node, next);
+        } else {
+            node.takeFrom(next, (next.getCount() - node.getCount()) / 2);
+        }
+    }
+
+    /**
+     * Unlinks node from the list.
+     *
+     * @param prev the node before node, null if node is the head
+     * @param node the node to unlink
+     */
+    private void unlink(UnrolledListNode<T> prev, UnrolledListNode<T> node) {
+        if (prev == null) {
+            head = node.getNext();
+        } else {
+            prev.setNext(node.getNext());
+        }
+        if (tail == node) {
+            tail = prev;
+        }
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * Runs in O(1) for all cases.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the head node of the linked list.
+     * Normally, you would not do this, but it's necessary for testing purposes.
+     *
+     * @return node at the head of the linked list
+     */
+    public UnrolledListNode<T> getHead() {
+        return head;
+    }
+
+    /**
+     * Returns the tail node of the linked list.
+     * Normally, you would not do this, but it's necessary for testing purposes.
+     *
+     * @return node at the tail of the linked list
+     */
+    public UnrolledListNode<T> getTail() {
+        return tail;
+    }
+}
@@ -0,0 +1,134 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for UnrolledLinkedList. A small node capacity is used so that
+ * splitting, merging and borrowing between nodes are all exercised.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class UnrolledLinkedListTests {
+    private UnrolledLinkedList<Integer> list;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        list = new UnrolledLinkedList<>(4);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddToBackAndGet() {
+        for (int i = 0; i < 10; i++) {
+            list.addToBack(i);
+        }
+        assertEquals(10, list.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals((Integer) i, list.get(i));
+        }
+        assertEquals(4, list.getHead().getCount());
+        assertEquals(2, list.getTail().getCount());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddToFront() {
+        for (int i = 0; i < 10; i++) {
+            list.addToFront(i);
+        }
+        Object[] expected = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        assertArrayEquals(expected, list.toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAtIndexSplitsFullNode() {
+        for (int i = 0; i < 4; i++) {
+            list.addToBack(i * 10);
+        }
+        list.addAtIndex(1, 5);  // 0 5 10 20 30
+        list.addAtIndex(4, 25); // 0 5 10 20 25 30
+        list.addAtIndex(6, 40); // 0 5 10 20 25 30 40
+        Object[] expected = {0, 5, 10, 20, 25, 30, 40};
+        assertArrayEquals(expected, list.toArray());
+        assertEquals(7, list.size());
+        assertSame(list.getTail(), list.getHead().getNext());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveAtIndexRebalances() {
+        for (int i = 0; i < 8; i++) {
+            list.addToBack(i);
+        }
+        assertEquals((Integer) 1, list.removeAtIndex(1));
+        assertEquals((Integer) 2, list.removeAtIndex(1));
+        assertEquals((Integer) 3, list.removeAtIndex(1));
+        // the head dropped below half full and borrowed from its successor
+        assertEquals(2, list.getHead().getCount());
+        Object[] expected = {0, 4, 5, 6, 7};
+        assertArrayEquals(expected, list.toArray());
+
+        assertEquals((Integer) 7, list.removeAtIndex(4));
+        assertEquals((Integer) 0, list.removeAtIndex(0));
+        // the head then merged with the tail
+        assertSame(list.getHead(), list.getTail());
+        expected = new Object[] {4, 5, 6};
+        assertArrayEquals(expected, list.toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveFromFrontAndBack() {
+        assertNull(list.removeFromFront());
+        assertNull(list.removeFromBack());
+        for (int i = 0; i < 6; i++) {
+            list.addToBack(i);
+        }
+        assertEquals((Integer) 0, list.removeFromFront());
+        assertEquals((Integer) 5, list.removeFromBack());
+        assertEquals((Integer) 4, list.removeFromBack());
+        assertEquals((Integer) 3, list.removeFromBack());
+        assertEquals((Integer) 1, list.removeFromFront());
+        assertEquals((Integer) 2, list.removeFromBack());
+        assertTrue(list.isEmpty());
+        assertNull(list.getHead());
+        assertNull(list.getTail());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIndexOf() {
+        for (int i = 0; i < 9; i++) {
+            list.addToBack(i % 3);
+        }
+        assertEquals(0, list.indexOf(0));
+        assertEquals(2, list.indexOf(2));
+        assertEquals(-1, list.indexOf(7));
+        list.removeAtIndex(0);
+        assertEquals(2, list.indexOf(0));
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        list.addToBack(1);
+        list.get(1);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        list.addAtIndex(0, null);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testClear() {
+        list.addToBack(1);
+        list.addToBack(2);
+        list.clear();
+        assertEquals(0, list.size());
+        assertNull(list.getHead());
+        assertArrayEquals(new Object[0], list.toArray());
+    }
+}
@@ -0,0 +1,154 @@
+/**
+ * Node class used for implementing the UnrolledLinkedList. Each node stores
+ * a small block of elements in a contiguous array instead of a single
+ * element, so walking the list touches one node per block.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class UnrolledListNode<T> {
+    private Object[] elements;
+    private int count;
+    private UnrolledListNode<T> next;
+
+    /**
+     * Creates a new empty UnrolledListNode that can hold up to
+     * {@code capacity} elements.
+     *
+     * @param capacity the maximum number of elements stored in this node
+     */
+    public UnrolledListNode(int capacity) {
+        elements = new Object[capacity];
+    }
+
+    /**
+     * Gets the element at the given offset inside this node.
+     *
+     * @param offset the offset of the element, 0 <= offset < count
+     * @return the element stored at offset
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int offset) {
+        return (T) elements[offset];
+    }
+
+    /**
+     * Inserts the element at the given offset, shifting the elements after
+     * it one slot to the right. The caller must make sure the node is not
+     * full.
+     *
+     * @param offset the offset to insert at, 0 <= offset <= count
+     * @param data the element to insert
+     */
+    public void insert(int offset, T data) {
+        System.arraycopy(elements, offset, elements, offset + 1,
+                count - offset);
+        elements[offset] = data;
+        count++;
+    }
+
+    /**
+     * Removes and returns the element at the given offset, shifting the
+     * elements after it one slot to the left.
+     *
+     * @param offset the offset of the element, 0 <= offset < count
+     * @return the removed element
+     */
+    @SuppressWarnings("unchecked")
+    public T remove(int offset) {
+        T data = (T) elements[offset];
+        System.arraycopy(elements, offset + 1, elements, offset,
+                count - offset - 1);
+        count--;
+        elements[count] = null;
+        return data;
+    }
+
+    /**
+     * Moves the upper half of this node's elements into the given empty
+     * node.
+     *
+     * @param other the empty node receiving the upper half
+     */
+    public void splitInto(UnrolledListNode<T> other) {
+        int half = count / 2;
+        int moved = count - half;
+        System.arraycopy(elements, half, other.elements, 0, moved);
+        for (int i = half; i < count; i++) {
+            elements[i] = null;
+        }
+        other.count = moved;
+        count = half;
+    }
+
+    /**
+     * Moves the first {@code amount} elements of the given node to the end
+     * of this node. The caller must make sure they fit.
+     *
+     * @param other the node to take elements from
+     * @param amount the number of elements to move
+     */
+    public void takeFrom(UnrolledListNode<T> other, int amount) {
+        System.arraycopy(other.elements, 0, elements, count, amount);
+        count += amount;
+        System.arraycopy(other.elements, amount, other.elements, 0,
+                other.count - amount);
+        for (int i = other.count - amount; i < other.count; i++) {
+            other.elements[i] = null;
+        }
+        other.count -= amount;
+    }
+
+    /**
+     * Copies the elements of this node into the destination array.
+     *
+     * @param dest the array to copy into
+     * @param destPos the starting position in the destination array
+     */
+    public void copyTo(Object[] dest, int destPos) {
+        System.arraycopy(elements, 0, dest, destPos, count);
+    }
+
+    /**
+     * Gets the number of elements stored in this node.
+     *
+     * @return the number of elements in this node
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the maximum number of elements this node can hold.
+     *
+     * @return the capacity of this node
+     */
+    public int getCapacity() {
+        return elements.length;
+    }
+
+    /**
+     * Gets the next node.
+     *
+     * @return the next node
+     */
+    public UnrolledListNode<T> getNext() {
+        return next;
+    }
+
+    /**
+     * Sets the next node.
+     *
+     * @param next the new next node
+     */
+    public void setNext(UnrolledListNode<T> next) {
+        this.next = next;
+    }
+
+    @Override
+    public String toString() {
+        return "Node containing " + count + " elements";
+    }
+}
@@ -1,32 +1,69 @@
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Your implementation of an array deque.
  *
+ * A deque created with {@code new ArrayDeque<>(true)} keeps its capacity a
+ * power of two, starting at {@code POWER_OF_TWO_INITIAL_CAPACITY}, and wraps
+ * indices with a bit mask instead of calling {@link #mod(int, int)}.
+ *
+ * The backing array only grows by default. Callers can pre-size it with
+ * {@link #ensureCapacity(int)}, release slack with {@link #trimToSize()}, or
+ * turn on automatic shrinking with {@link #setAutoShrink(boolean)}.
+ *
+ * Iterators and spliterators are fail-fast: once the deque is modified
+ * other than through them, they throw a ConcurrentModificationException.
+ * The spliterator splits its range of the ring in halves, so parallel
+ * streams divide the work evenly.
+ *
  * @author YOUR NAME HERE
  * @userid YOUR USER ID HERE (e.g. gburdell3)
  * @GTID YOUR GT ID HERE (e.g. 900000000)
  * @version 1.0
  */
-public class ArrayDeque<T> {
+public class ArrayDeque<T> implements Iterable<T> {
 
     /**
      * The initial capacity of the ArrayDeque.
      */
     public static final int INITIAL_CAPACITY = 13;
 
-    // Do not add new instance variables.
+    /**
+     * The initial capacity of an ArrayDeque in power-of-two mode.
+     */
+    public static final int POWER_OF_TWO_INITIAL_CAPACITY = 16;
+
     private T[] backingArray;
     private int front;
     private int back;
     private int size;
+    private final boolean powerOfTwo;
+    private boolean autoShrink;
+    private int modCount;
 
     /**
      * Constructs a new ArrayDeque with an initial capacity of
      * the {@code INITIAL_CAPACITY} constant above.
      */
     public ArrayDeque() {
-        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        this(false);
+    }
+
+    /**
+     * Constructs a new ArrayDeque.
+     *
+     * @param powerOfTwo true to keep the capacity a power of two, starting
+     * at {@code POWER_OF_TWO_INITIAL_CAPACITY}, so indices wrap with a mask
+     */
+    public ArrayDeque(boolean powerOfTwo) {
+        this.powerOfTwo = powerOfTwo;
+        backingArray = (T[]) new Object[powerOfTwo
+                ? POWER_OF_TWO_INITIAL_CAPACITY : INITIAL_CAPACITY];
     }
 
     /**
@@ -49,20 +86,16 @@ public class ArrayDeque<T> {
             throw new IllegalArgumentException("data cannot be null");
         }
         if (size == backingArray.length) {
-            T[] newBackingArray = (T[]) new Object[backingArray.length * 2];
-            newBackingArray[0] = data;
-            for (int i = 0; i < backingArray.length; i++) {
-                int newFront = mod(front + i, backingArray.length);
-                newBackingArray[i + 1] = backingArray[newFront];
-            }
-            backingArray = newBackingArray;
+            resize(backingArray.length * 2, 1);
             front = 0;
-            back = size + 1;
+            backingArray[0] = data;
+            back = wrap(size + 1);
         } else {
-            front = mod(front - 1, backingArray.length);
+            front = wrap(front - 1);
             backingArray[front] = data;
         }
         size++;
+        modCount++;
     }
 
     /**
@@ -84,26 +117,22 @@ public class ArrayDeque<T> {
             throw new IllegalArgumentException("data cannot be null");
         }
         if (size == backingArray.length) {
-            T[] newBackingArray = (T[]) new Object[backingArray.length * 2];
-            for (int i = 0; i < backingArray.length; i++) {
-                int newIndex = mod(front + i, backingArray.length);
-                newBackingArray[i + 1] = backingArray[newIndex];
-            }
-            backingArray = newBackingArray;
-            backingArray[size] = data;
+            resize(backingArray.length * 2, 0);
             front = 0;
-            back = size + 1;
+            backingArray[size] = data;
+            back = wrap(size + 1);
         } else {
             backingArray[back] = data;
-            back = mod(back + 1, backingArray.length);
+            back = wrap(back + 1);
         }
         size++;
+        modCount++;
     }
 
     /**
      * Removes the data at the front of the deque.
      *
-     * Do not shrink the backing array.
+     * The backing array is only shrunk when auto-shrink is enabled.
      *
      * If the deque becomes empty as a result of this call, you should
      * explicitly reset front and back to the beginning of the array.
@@ -123,11 +152,15 @@ public class ArrayDeque<T> {
         T data = backingArray[front];
         backingArray[front] = null;
         size--;
+        modCount++;
         if (size == 0) {
             front = 0;
             back = 0;
         } else {
-            front = mod(front + 1, backingArray.length);
+            front = wrap(front + 1);
+        }
+        if (autoShrink) {
+            shrinkIfSparse();
         }
         return data;
     }
@@ -135,7 +168,7 @@ public class ArrayDeque<T> {
     /**
      * Removes the data at the back of the deque.
      *
-     * Do not shrink the backing array.
+     * The backing array is only shrunk when auto-shrink is enabled.
      *
      * If the deque becomes empty as a result of this call, you should
      * explicitly reset front and back to the beginning of the array.
@@ -152,19 +185,233 @@ public class ArrayDeque<T> {
         if (size == 0) {
             throw new NoSuchElementException("the deque is empty");
         }
-        int index = mod(back - 1, backingArray.length);
+        int index = wrap(back - 1);
         T data = backingArray[index];
         backingArray[index] = null;
         size--;
+        modCount++;
         if (size == 0) {
             front = 0;
             back = 0;
         } else {
             back = index;
         }
+        if (autoShrink) {
+            shrinkIfSparse();
+        }
         return data;
     }
 
+    /**
+     * Returns the data at the front of the deque without removing it.
+     *
+     * This method runs in O(1) time.
+     *
+     * @return the data at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("the deque is empty");
+        }
+        return backingArray[front];
+    }
+
+    /**
+     * Returns the data at the back of the deque without removing it.
+     *
+     * This method runs in O(1) time.
+     *
+     * @return the data at the back of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("the deque is empty");
+        }
+        return backingArray[wrap(back - 1)];
+    }
+
+    /**
+     * Returns the data at the given position without removing it, 0 being
+     * the front.
+     *
+     * This method runs in O(1) time.
+     *
+     * @param index the position of the data
+     * @return the data at that position
+     * @throws java.lang.IndexOutOfBoundsException if index is not in
+     * [0, size)
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index
+                    + " is out of bounds for size " + size);
+        }
+        return backingArray[wrap(front + index)];
+    }
+
+    /**
+     * Returns a fail-fast iterator over the elements from front to back.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Returns a fail-fast spliterator over the elements from front to back.
+     * It reports SIZED, SUBSIZED, ORDERED and NONNULL, and splits its range
+     * in halves.
+     *
+     * @return the spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArrayDequeSpliterator<>(this, backingArray, front, 0, size,
+                modCount);
+    }
+
+    /**
+     * Returns a sequential stream of the elements from front to back. Call
+     * {@code parallel()} on it to split the work across threads.
+     *
+     * @return the stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns the number of structural modifications so far, for the
+     * fail-fast checks of iterators and spliterators. Resizes count too,
+     * since they move the elements to a new array.
+     *
+     * @return the modification count
+     */
+    int getModCount() {
+        return modCount;
+    }
+
+    /**
+     * Makes sure the backing array can hold at least {@code minCapacity}
+     * elements without regrowing. In power-of-two mode the capacity is
+     * rounded up to the next power of two.
+     *
+     * This method runs in O(n) time when it has to resize, O(1) otherwise.
+     *
+     * @param minCapacity the number of elements the deque should hold
+     * @throws java.lang.IllegalArgumentException if minCapacity is more
+     * than 2^30 in power-of-two mode, the largest power of two an array
+     * can hold
+     */
+    public void ensureCapacity(int minCapacity) {
+        int capacity = powerOfTwo ? ceilPowerOfTwo(minCapacity) : minCapacity;
+        if (capacity > backingArray.length) {
+            resize(capacity, 0);
+            front = 0;
+            back = wrap(size);
+        }
+    }
+
+    /**
+     * Shrinks the backing array to the smallest capacity that holds the
+     * current elements: {@code size} itself, or the next power of two in
+     * power-of-two mode. The capacity never drops below 1.
+     *
+     * This method runs in O(n) time.
+     */
+    public void trimToSize() {
+        int capacity = Math.max(1, size);
+        if (powerOfTwo) {
+            capacity = ceilPowerOfTwo(capacity);
+        }
+        if (capacity < backingArray.length) {
+            resize(capacity, 0);
+            front = 0;
+            back = wrap(size);
+        }
+    }
+
+    /**
+     * Turns automatic shrinking on or off. When it is on, a removal that
+     * leaves the deque at most a quarter full halves the backing array, but
+     * never below the initial capacity. Since the halved array is then half
+     * full, the deque has to double in size before it regrows, so it cannot
+     * thrash between growing and shrinking at the boundary.
+     *
+     * @param autoShrink true to shrink the backing array automatically
+     */
+    public void setAutoShrink(boolean autoShrink) {
+        this.autoShrink = autoShrink;
+    }
+
+    /**
+     * Halves the backing array if it is at most a quarter full and larger
+     * than the initial capacity.
+     */
+    private void shrinkIfSparse() {
+        int minimum = powerOfTwo ? POWER_OF_TWO_INITIAL_CAPACITY
+                : INITIAL_CAPACITY;
+        int capacity = backingArray.length / 2;
+        if (size <= backingArray.length / 4 && capacity >= minimum) {
+            resize(capacity, 0);
+            front = 0;
+            back = wrap(size);
+        }
+    }
+
+    /**
+     * Returns the smallest power of two that is at least n.
+     *
+     * @param n the lower bound
+     * @return the power of two, 1 if n is less than 1
+     * @throws java.lang.IllegalArgumentException if n is more than 2^30
+     */
+    private static int ceilPowerOfTwo(int n) {
+        if (n > 1 << 30) {
+            throw new IllegalArgumentException(
+                    "capacity cannot be more than 2^30 in power-of-two mode");
+        }
+        return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+
+    /**
+     * Moves the elements into a new backing array of the given capacity,
+     * copying them in order so that the first one lands at {@code offset}.
+     * The two wrapped segments of the old array are each moved with a
+     * single {@code System.arraycopy}. The caller updates front and back.
+     *
+     * @param capacity the capacity of the new array, at least size + offset
+     * @param offset the index of the first element in the new array
+     */
+    private void resize(int capacity, int offset) {
+        T[] newBackingArray = (T[]) new Object[capacity];
+        int firstPart = Math.min(size, backingArray.length - front);
+        System.arraycopy(backingArray, front, newBackingArray, offset,
+                firstPart);
+        System.arraycopy(backingArray, 0, newBackingArray,
+                offset + firstPart, size - firstPart);
+        backingArray = newBackingArray;
+        modCount++;
+    }
+
+    /**
+     * Wraps an index that is at most one capacity out of range back into
+     * the backing array, using a mask in power-of-two mode.
+     *
+     * @param index the index to wrap
+     * @return the wrapped index
+     */
+    private int wrap(int index) {
+        if (powerOfTwo) {
+            return index & (backingArray.length - 1);
+        }
+        return mod(index, backingArray.length);
+    }
+
     /**
      * Returns the smallest non-negative remainder when dividing {@code index}
      * by {@code modulo}. So, for example, if modulo is 5, then this method will
@@ -0,0 +1,126 @@
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator class used by ArrayDeque. It covers the positions
+ * {@code [origin, fence)} counted from the front of the deque, maps them
+ * onto the wrapped ring of the backing array it was created with, and
+ * splits by handing off the first half of its range.
+ *
+ * It is fail-fast: every step checks the deque's modification count
+ * against the one it was created with, and bulk traversal checks it before
+ * and after the loop.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class ArrayDequeSpliterator<T> implements Spliterator<T> {
+    private final ArrayDeque<T> deque;
+    private final Object[] array;
+    private final int front;
+    private final int fence;
+    private final int expectedModCount;
+    private int origin;
+
+    /**
+     * Creates a new ArrayDequeSpliterator.
+     *
+     * @param deque the deque being traversed
+     * @param array the backing array of the deque
+     * @param front the index of the deque's front element in the array
+     * @param origin the first position covered
+     * @param fence one past the last position covered
+     * @param expectedModCount the modification count of the deque
+     */
+    ArrayDequeSpliterator(ArrayDeque<T> deque, Object[] array, int front,
+            int origin, int fence, int expectedModCount) {
+        this.deque = deque;
+        this.array = array;
+        this.front = front;
+        this.origin = origin;
+        this.fence = fence;
+        this.expectedModCount = expectedModCount;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException("action cannot be null");
+        }
+        checkForComodification();
+        if (origin >= fence) {
+            return false;
+        }
+        action.accept((T) array[index(origin++)]);
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEachRemaining(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException("action cannot be null");
+        }
+        checkForComodification();
+        int start = index(origin);
+        int count = fence - origin;
+        int firstPart = Math.min(count, array.length - start);
+        for (int i = start; i < start + firstPart; i++) {
+            action.accept((T) array[i]);
+        }
+        for (int i = 0; i < count - firstPart; i++) {
+            action.accept((T) array[i]);
+        }
+        origin = fence;
+        checkForComodification();
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        int mid = (origin + fence) >>> 1;
+        if (mid <= origin) {
+            return null;
+        }
+        ArrayDequeSpliterator<T> prefix = new ArrayDequeSpliterator<>(deque,
+                array, front, origin, mid, expectedModCount);
+        origin = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - origin;
+    }
+
+    @Override
+    public int characteristics() {
+        return SIZED | SUBSIZED | ORDERED | NONNULL;
+    }
+
+    /**
+     * Maps a position counted from the front onto the backing array.
+     *
+     * @param position the position, less than the array length
+     * @return the index in the array
+     */
+    private int index(int position) {
+        int i = front + position;
+        return i >= array.length ? i - array.length : i;
+    }
+
+    /**
+     * Fails if the deque was modified since this spliterator was created.
+     *
+     * @throws java.util.ConcurrentModificationException if it was
+     */
+    private void checkForComodification() {
+        if (deque.getModCount() != expectedModCount) {
+            throw new ConcurrentModificationException(
+                    "the deque was modified during traversal");
+        }
+    }
+}
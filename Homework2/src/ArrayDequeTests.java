@@ -0,0 +1,216 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for ArrayDeque regrowth and power-of-two mode.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class ArrayDequeTests {
+
+    private ArrayDeque<Integer> array;
+    private ArrayDeque<Integer> masked;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setup() {
+        array = new ArrayDeque<>();
+        masked = new ArrayDeque<>(true);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddLastRegrowKeepsOrder() {
+        for (int i = 0; i < 14; i++) {
+            array.addLast(i);
+        }
+        Integer[] expected = new Integer[ArrayDeque.INITIAL_CAPACITY * 2];
+        for (int i = 0; i < 14; i++) {
+            expected[i] = i;
+        }
+        assertArrayEquals(expected, array.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddFirstRegrowUnwrapsSegments() {
+        for (int i = 0; i < 7; i++) {
+            array.addLast(i);
+        }
+        for (int i = 1; i <= 6; i++) {
+            array.addFirst(-i);
+        }
+        // full and wrapped around: -6..-1 at the end, 0..6 at the start
+        array.addFirst(-7);
+        Integer[] expected = new Integer[ArrayDeque.INITIAL_CAPACITY * 2];
+        for (int i = 0; i < 14; i++) {
+            expected[i] = i - 7;
+        }
+        assertArrayEquals(expected, array.getBackingArray());
+        assertEquals((Integer) 6, array.removeLast());
+        assertEquals((Integer) (-7), array.removeFirst());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPowerOfTwoCapacity() {
+        assertEquals(ArrayDeque.POWER_OF_TWO_INITIAL_CAPACITY,
+                backing(masked).length);
+        for (int i = 0; i < 40; i++) {
+            if (i % 2 == 0) {
+                masked.addLast(i);
+            } else {
+                masked.addFirst(i);
+            }
+        }
+        assertEquals(64, backing(masked).length);
+        for (int i = 39; i >= 0; i--) {
+            if (i % 2 == 0) {
+                assertEquals((Integer) i, masked.removeLast());
+            } else {
+                assertEquals((Integer) i, masked.removeFirst());
+            }
+        }
+        assertEquals(0, masked.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPowerOfTwoWrapsWithMask() {
+        masked.addFirst(1);
+        assertEquals((Integer) 1, backing(masked)[15]);
+        masked.addLast(2);
+        assertEquals((Integer) 2, backing(masked)[0]);
+        assertEquals((Integer) 2, masked.removeLast());
+        assertEquals((Integer) 1, masked.removeLast());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEnsureCapacityAndTrimToSize() {
+        array.addFirst(2);
+        array.addFirst(1);
+        array.ensureCapacity(100);
+        assertEquals(100, backing(array).length);
+        assertEquals((Integer) 1, backing(array)[0]);
+        assertEquals((Integer) 2, backing(array)[1]);
+        array.ensureCapacity(50);
+        assertEquals(100, backing(array).length);
+
+        array.trimToSize();
+        assertArrayEquals(new Object[] {1, 2}, backing(array));
+        array.addLast(3);
+        assertEquals(4, backing(array).length);
+
+        masked.ensureCapacity(100);
+        assertEquals(128, backing(masked).length);
+        masked.addLast(1);
+        masked.addLast(2);
+        masked.addLast(3);
+        masked.trimToSize();
+        assertEquals(4, backing(masked).length);
+        assertEquals((Integer) 1, masked.removeFirst());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testEnsureCapacityBeyondLargestPowerOfTwo() {
+        masked.ensureCapacity((1 << 30) + 1);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAutoShrinkWithHysteresis() {
+        masked.setAutoShrink(true);
+        for (int i = 0; i < 64; i++) {
+            masked.addLast(i);
+        }
+        assertEquals(64, backing(masked).length);
+        for (int i = 0; i < 47; i++) {
+            masked.removeFirst();
+        }
+        assertEquals(64, backing(masked).length);
+        masked.removeFirst();
+        // 16 left in 64 slots: halved to 32, leaving it half full
+        assertEquals(32, backing(masked).length);
+        assertEquals((Integer) 48, backing(masked)[0]);
+        masked.addLast(64);
+        masked.removeLast();
+        assertEquals(32, backing(masked).length);
+        while (masked.size() > 0) {
+            masked.removeLast();
+        }
+        assertEquals(ArrayDeque.POWER_OF_TWO_INITIAL_CAPACITY,
+                backing(masked).length);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testNoShrinkByDefault() {
+        for (int i = 0; i < 100; i++) {
+            array.addLast(i);
+        }
+        int capacity = backing(array).length;
+        while (array.size() > 0) {
+            array.removeFirst();
+        }
+        assertEquals(capacity, backing(array).length);
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveFromEmpty() {
+        masked.removeFirst();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGetFirstAndLastAcrossWrap() {
+        for (int i = 0; i < 5; i++) {
+            array.addFirst(i);
+            masked.addFirst(i);
+        }
+        array.addLast(9);
+        masked.addLast(9);
+        assertEquals((Integer) 4, array.getFirst());
+        assertEquals((Integer) 9, array.getLast());
+        assertEquals((Integer) 4, masked.getFirst());
+        assertEquals((Integer) 9, masked.getLast());
+        assertEquals(6, array.size());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testGetLastFromEmpty() {
+        array.getLast();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGetByIndexAcrossWrap() {
+        for (int i = 0; i < 5; i++) {
+            array.addFirst(i);
+            masked.addFirst(i);
+        }
+        array.addLast(9);
+        masked.addLast(9);
+        for (int i = 0; i < 5; i++) {
+            assertEquals((Integer) (4 - i), array.get(i));
+            assertEquals((Integer) (4 - i), masked.get(i));
+        }
+        assertEquals((Integer) 9, array.get(5));
+        assertEquals((Integer) 9, masked.get(5));
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testGetPastTheBack() {
+        masked.addLast(1);
+        masked.get(1);
+    }
+
+    /**
+     * Returns the backing array of a deque without casting it to the
+     * element type, which would fail since it is really an Object[].
+     *
+     * @param deque the deque
+     * @return the backing array
+     */
+    private static Object[] backing(ArrayDeque<?> deque) {
+        return deque.getBackingArray();
+    }
+}
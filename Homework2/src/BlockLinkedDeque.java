@@ -0,0 +1,274 @@
+import java.util.NoSuchElementException;
+
+/**
+ * A deque stored as a doubly linked list of fixed-size blocks, in the
+ * style of CPython's {@code collections.deque}. Each block holds
+ * {@code BLOCK_SIZE} elements, so the deque allocates one block (and its
+ * two links) per {@code BLOCK_SIZE} adds instead of one LinkedNode per
+ * add, and neighbouring elements sit next to each other in memory.
+ *
+ * The front element lives at {@code frontIndex} in the head block and the
+ * back element at {@code backIndex} in the tail block. An empty deque keeps
+ * a single block with both indices around its middle, so alternating adds
+ * at either end do not immediately cross a block boundary. One emptied
+ * block is kept as a spare, so an add and remove repeatedly crossing the
+ * same boundary does not allocate.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class BlockLinkedDeque<T> {
+
+    /**
+     * The number of elements each block holds.
+     */
+    public static final int BLOCK_SIZE = 64;
+
+    private static final int CENTER = (BLOCK_SIZE - 1) / 2;
+
+    private DequeBlock<T> head;
+    private DequeBlock<T> tail;
+    private int frontIndex;
+    private int backIndex;
+    private int size;
+
+    private DequeBlock<T> spare;
+    private long blockAllocations;
+
+    /**
+     * Constructs a new, empty BlockLinkedDeque.
+     */
+    public BlockLinkedDeque() {
+        head = newBlock();
+        tail = head;
+        recenter();
+    }
+
+    /**
+     * Adds the data to the front of the deque.
+     *
+     * This method runs in O(1) time.
+     *
+     * @param data the data to add to the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addFirst(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        if (frontIndex == 0) {
+            DequeBlock<T> block = newBlock();
+            block.setNext(head);
+            head.setPrevious(block);
+            head = block;
+            frontIndex = BLOCK_SIZE;
+        }
+        frontIndex--;
+        head.set(frontIndex, data);
+        size++;
+    }
+
+    /**
+     * Adds the data to the back of the deque.
+     *
+     * This method runs in O(1) time.
+     *
+     * @param data the data to add to the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addLast(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        if (backIndex == BLOCK_SIZE - 1) {
+            DequeBlock<T> block = newBlock();
+            block.setPrevious(tail);
+            tail.setNext(block);
+            tail = block;
+            backIndex = -1;
+        }
+        backIndex++;
+        tail.set(backIndex, data);
+        size++;
+    }
+
+    /**
+     * Removes the data at the front of the deque.
+     *
+     * This method runs in O(1) time.
+     *
+     * @return the data formerly at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("the deque is empty");
+        }
+        T data = head.get(frontIndex);
+        head.set(frontIndex, null);
+        frontIndex++;
+        size--;
+        if (size == 0) {
+            recenter();
+        } else if (frontIndex == BLOCK_SIZE) {
+            DequeBlock<T> emptied = head;
+            head = head.getNext();
+            head.setPrevious(null);
+            frontIndex = 0;
+            releaseBlock(emptied);
+        }
+        return data;
+    }
+
+    /**
+     * Removes the data at the back of the deque.
+     *
+     * This method runs in O(1) time.
+     *
+     * @return the data formerly at the back of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("the deque is empty");
+        }
+        T data = tail.get(backIndex);
+        tail.set(backIndex, null);
+        backIndex--;
+        size--;
+        if (size == 0) {
+            recenter();
+        } else if (backIndex < 0) {
+            DequeBlock<T> emptied = tail;
+            tail = tail.getPrevious();
+            tail.setNext(null);
+            backIndex = BLOCK_SIZE - 1;
+            releaseBlock(emptied);
+        }
+        return data;
+    }
+
+    /**
+     * Returns the data at the front of the deque without removing it.
+     *
+     * This method runs in O(1) time.
+     *
+     * @return the data at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("the deque is empty");
+        }
+        return head.get(frontIndex);
+    }
+
+    /**
+     * Returns the data at the back of the deque without removing it.
+     *
+     * This method runs in O(1) time.
+     *
+     * @return the data at the back of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("the deque is empty");
+        }
+        return tail.get(backIndex);
+    }
+
+    /**
+     * Returns the elements of the deque in order from front to back.
+     *
+     * This method runs in O(n) time.
+     *
+     * @return an array holding the elements
+     */
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        DequeBlock<T> block = head;
+        int index = frontIndex;
+        for (int i = 0; i < size; i++) {
+            if (index == BLOCK_SIZE) {
+                block = block.getNext();
+                index = 0;
+            }
+            result[i] = block.get(index++);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of blocks this deque has allocated.
+     *
+     * @return the number of blocks created with {@code new}
+     */
+    public long getBlockAllocations() {
+        return blockAllocations;
+    }
+
+    /**
+     * Returns the number of blocks currently linked into the deque.
+     *
+     * This method runs in O(1) time.
+     *
+     * @return the number of linked blocks
+     */
+    public int getBlockCount() {
+        if (size == 0) {
+            return 1;
+        }
+        int slotsUsed = frontIndex + size + (BLOCK_SIZE - 1 - backIndex);
+        return slotsUsed / BLOCK_SIZE;
+    }
+
+    /**
+     * Makes the deque a single empty block with the indices around its
+     * middle. Only called when the deque is empty, at which point head and
+     * tail are the same block.
+     */
+    private void recenter() {
+        frontIndex = CENTER + 1;
+        backIndex = CENTER;
+    }
+
+    /**
+     * Returns an unlinked block, the spare one if there is one.
+     *
+     * @return the block
+     */
+    private DequeBlock<T> newBlock() {
+        DequeBlock<T> block = spare;
+        if (block == null) {
+            blockAllocations++;
+            return new DequeBlock<>(BLOCK_SIZE);
+        }
+        spare = null;
+        return block;
+    }
+
+    /**
+     * Keeps an emptied, unlinked block as the spare.
+     *
+     * @param block the emptied block
+     */
+    private void releaseBlock(DequeBlock<T> block) {
+        block.setPrevious(null);
+        block.setNext(null);
+        spare = block;
+    }
+
+    /**
+     * Returns the number of elements in the deque.
+     *
+     * Runs in O(1) for all cases.
+     *
+     * @return the size of the deque
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,209 @@
+/**
+ * Memory footprint and throughput comparison of BlockLinkedDeque against
+ * LinkedDeque.
+ *
+ * Footprint is the growth of the used heap, after a full collection, when
+ * one deque holds {@code n} elements that are shared between all runs, so
+ * only the deque's own structure is counted. Throughput is measured for a
+ * queue pattern (addLast/removeFirst) and a stack pattern
+ * (addLast/removeLast) over a deque that stays around {@code n} elements.
+ * The heap measurement relies on {@code System.gc()} and is an estimate.
+ *
+ * Run with {@code java BlockLinkedDequeBenchmark [n] [rounds]}.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class BlockLinkedDequeBenchmark {
+
+    /**
+     * Runs the benchmark and prints the results.
+     *
+     * @param args optional element count and number of throughput rounds
+     */
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        Integer[] values = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i;
+        }
+
+        long linkedBytes = footprint(values, false);
+        long blockBytes = footprint(values, true);
+        System.out.printf("footprint for %d elements (payload excluded):%n",
+                n);
+        System.out.printf("  LinkedDeque      %10d bytes, %5.1f per element%n",
+                linkedBytes, (double) linkedBytes / n);
+        System.out.printf("  BlockLinkedDeque %10d bytes, %5.1f per element%n",
+                blockBytes, (double) blockBytes / n);
+
+        System.out.printf("%5s | %14s %14s | %14s %14s%n", "round",
+                "linked queue", "block queue", "linked stack", "block stack");
+        for (int round = 0; round < rounds; round++) {
+            System.out.printf("%5d | %11.2f ns %11.2f ns | %11.2f ns "
+                    + "%11.2f ns%n", round, queueLinked(values),
+                    queueBlock(values), stackLinked(values),
+                    stackBlock(values));
+        }
+    }
+
+    /**
+     * Measures the heap growth from filling one deque.
+     *
+     * @param values the elements to add
+     * @param blocks true for BlockLinkedDeque, false for LinkedDeque
+     * @return the estimated size of the deque's structure in bytes
+     */
+    private static long footprint(Integer[] values, boolean blocks) {
+        long before = usedHeap();
+        long after;
+        int size;
+        if (blocks) {
+            BlockLinkedDeque<Integer> deque = new BlockLinkedDeque<>();
+            for (Integer value : values) {
+                deque.addLast(value);
+            }
+            after = usedHeap();
+            size = deque.size();
+        } else {
+            LinkedDeque<Integer> deque = new LinkedDeque<>();
+            for (Integer value : values) {
+                deque.addLast(value);
+            }
+            after = usedHeap();
+            size = deque.size();
+        }
+        if (size != values.length) {
+            throw new IllegalStateException("deque lost elements");
+        }
+        return after - before;
+    }
+
+    /**
+     * Returns the used heap after asking for full collections.
+     *
+     * @return the used heap in bytes
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Times a FIFO pass over a LinkedDeque.
+     *
+     * @param values the elements to add
+     * @return the mean time per add/remove pair in ns
+     */
+    private static double queueLinked(Integer[] values) {
+        LinkedDeque<Integer> deque = new LinkedDeque<>();
+        long start = System.nanoTime();
+        for (Integer value : values) {
+            deque.addLast(value);
+        }
+        long sum = 0;
+        for (int lap = 0; lap < 2; lap++) {
+            for (Integer value : values) {
+                deque.addLast(value);
+                sum += deque.removeFirst();
+            }
+        }
+        while (deque.size() > 0) {
+            sum += deque.removeFirst();
+        }
+        return elapsed(start, sum, values);
+    }
+
+    /**
+     * Times a FIFO pass over a BlockLinkedDeque.
+     *
+     * @param values the elements to add
+     * @return the mean time per add/remove pair in ns
+     */
+    private static double queueBlock(Integer[] values) {
+        BlockLinkedDeque<Integer> deque = new BlockLinkedDeque<>();
+        long start = System.nanoTime();
+        for (Integer value : values) {
+            deque.addLast(value);
+        }
+        long sum = 0;
+        for (int lap = 0; lap < 2; lap++) {
+            for (Integer value : values) {
+                deque.addLast(value);
+                sum += deque.removeFirst();
+            }
+        }
+        while (deque.size() > 0) {
+            sum += deque.removeFirst();
+        }
+        return elapsed(start, sum, values);
+    }
+
+    /**
+     * Times a LIFO pass over a LinkedDeque.
+     *
+     * @param values the elements to add
+     * @return the mean time per add/remove pair in ns
+     */
+    private static double stackLinked(Integer[] values) {
+        LinkedDeque<Integer> deque = new LinkedDeque<>();
+        long start = System.nanoTime();
+        long sum = 0;
+        for (int lap = 0; lap < 3; lap++) {
+            for (Integer value : values) {
+                deque.addLast(value);
+            }
+            while (deque.size() > 0) {
+                sum += deque.removeLast();
+            }
+        }
+        return elapsed(start, sum, values);
+    }
+
+    /**
+     * Times a LIFO pass over a BlockLinkedDeque.
+     *
+     * @param values the elements to add
+     * @return the mean time per add/remove pair in ns
+     */
+    private static double stackBlock(Integer[] values) {
+        BlockLinkedDeque<Integer> deque = new BlockLinkedDeque<>();
+        long start = System.nanoTime();
+        long sum = 0;
+        for (int lap = 0; lap < 3; lap++) {
+            for (Integer value : values) {
+                deque.addLast(value);
+            }
+            while (deque.size() > 0) {
+                sum += deque.removeLast();
+            }
+        }
+        return elapsed(start, sum, values);
+    }
+
+    /**
+     * Returns the mean time per operation since start, after checking the
+     * sum of the removed elements: every pass removes each value three
+     * times.
+     *
+     * @param start the start time in ns
+     * @param sum the sum of the removed elements
+     * @param values the elements that were added
+     * @return the mean time per pair in ns
+     */
+    private static double elapsed(long start, long sum, Integer[] values) {
+        double nanos = System.nanoTime() - start;
+        long expected = 0;
+        for (Integer value : values) {
+            expected += 3L * value;
+        }
+        if (sum != expected) {
+            throw new IllegalStateException("checksum mismatch");
+        }
+        return nanos / (values.length * 3L);
+    }
+}
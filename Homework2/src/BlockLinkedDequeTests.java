@@ -0,0 +1,115 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for BlockLinkedDeque, in particular the block boundaries.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class BlockLinkedDequeTests {
+
+    private BlockLinkedDeque<Integer> deque;
+
+    public static final int TIMEOUT = 2000;
+
+    @Before
+    public void setup() {
+        deque = new BlockLinkedDeque<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testQueueAcrossManyBlocks() {
+        int count = BlockLinkedDeque.BLOCK_SIZE * 5 + 3;
+        for (int i = 0; i < count; i++) {
+            deque.addLast(i);
+        }
+        assertEquals(count, deque.size());
+        assertEquals(6, deque.getBlockCount());
+        assertEquals((Integer) 0, deque.getFirst());
+        assertEquals((Integer) (count - 1), deque.getLast());
+        for (int i = 0; i < count; i++) {
+            assertEquals((Integer) i, deque.removeFirst());
+        }
+        assertEquals(0, deque.size());
+        assertEquals(1, deque.getBlockCount());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testStackAtFrontAcrossBlocks() {
+        int count = BlockLinkedDeque.BLOCK_SIZE * 3;
+        for (int i = 0; i < count; i++) {
+            deque.addFirst(i);
+        }
+        for (int i = count - 1; i >= 0; i--) {
+            assertEquals((Integer) i, deque.removeFirst());
+        }
+        for (int i = 0; i < count; i++) {
+            deque.addFirst(i);
+        }
+        for (int i = 0; i < count; i++) {
+            assertEquals((Integer) i, deque.removeLast());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testBoundaryThrashUsesSpareBlock() {
+        while (deque.getBlockCount() == 1) {
+            deque.addLast(0);
+        }
+        deque.removeLast();
+        long allocations = deque.getBlockAllocations();
+        for (int i = 0; i < 1000; i++) {
+            deque.addLast(i);
+            assertEquals(2, deque.getBlockCount());
+            deque.removeLast();
+            assertEquals(1, deque.getBlockCount());
+        }
+        assertEquals(allocations, deque.getBlockAllocations());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMatchesJavaDequeUnderRandomOperations() {
+        java.util.ArrayDeque<Integer> expected = new java.util.ArrayDeque<>();
+        Random random = new Random(1332);
+        for (int i = 0; i < 20000; i++) {
+            int op = random.nextInt(5);
+            if (op == 0) {
+                expected.addFirst(i);
+                deque.addFirst(i);
+            } else if (op == 1) {
+                expected.addLast(i);
+                deque.addLast(i);
+            } else if (!expected.isEmpty()) {
+                if (op == 2) {
+                    assertEquals(expected.removeFirst(), deque.removeFirst());
+                } else if (op == 3) {
+                    assertEquals(expected.removeLast(), deque.removeLast());
+                } else {
+                    assertEquals(expected.getFirst(), deque.getFirst());
+                    assertEquals(expected.getLast(), deque.getLast());
+                }
+            }
+            assertEquals(expected.size(), deque.size());
+        }
+        assertArrayEquals(expected.toArray(), deque.toArray());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveFromEmpty() {
+        deque.addFirst(1);
+        deque.removeLast();
+        deque.removeFirst();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        deque.addLast(null);
+    }
+}
@@ -0,0 +1,365 @@
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe deque that blocks consumers while it is empty and, when
+ * given a capacity, producers while it is full. The elements live in a
+ * power-of-two ArrayDeque guarded by one ReentrantLock with a
+ * {@code notEmpty} and a {@code notFull} Condition.
+ *
+ * The lock is a ReentrantLock rather than {@code synchronized} so that
+ * virtual threads parked on the conditions unmount from their carrier
+ * instead of pinning it. Consumers that want to move many elements per
+ * wake-up should use the drainTo methods, which take a whole batch under a
+ * single lock acquisition.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class BlockingArrayDeque<T> {
+    private final ArrayDeque<T> deque = new ArrayDeque<>(true);
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * Constructs a new, unbounded BlockingArrayDeque.
+     */
+    public BlockingArrayDeque() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a new BlockingArrayDeque holding at most capacity
+     * elements.
+     *
+     * @param capacity the maximum number of elements
+     * @throws java.lang.IllegalArgumentException if capacity is not positive
+     */
+    public BlockingArrayDeque(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds the data to the front of the deque, waiting for room if the
+     * deque is full.
+     *
+     * @param data the data to add
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     */
+    public void putFirst(T data) throws InterruptedException {
+        put(data, true);
+    }
+
+    /**
+     * Adds the data to the back of the deque, waiting for room if the deque
+     * is full.
+     *
+     * @param data the data to add
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     */
+    public void putLast(T data) throws InterruptedException {
+        put(data, false);
+    }
+
+    /**
+     * Adds the data to the back of the deque if there is room, waiting up
+     * to the timeout for room to appear.
+     *
+     * @param data the data to add
+     * @param timeout how long to wait, in units of unit
+     * @param unit the unit of timeout
+     * @return true if added, false if the deque stayed full
+     * @throws java.lang.IllegalArgumentException if data or unit is null
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     */
+    public boolean offerLast(T data, long timeout, TimeUnit unit)
+        throws InterruptedException {
+        checkData(data);
+        checkUnit(unit);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (deque.size() == capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            deque.addLast(data);
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the data at the front of the deque, waiting for an element if
+     * the deque is empty.
+     *
+     * @return the data formerly at the front
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     */
+    public T takeFirst() throws InterruptedException {
+        return take(true);
+    }
+
+    /**
+     * Removes the data at the back of the deque, waiting for an element if
+     * the deque is empty.
+     *
+     * @return the data formerly at the back
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     */
+    public T takeLast() throws InterruptedException {
+        return take(false);
+    }
+
+    /**
+     * Removes the data at the front of the deque, waiting up to the timeout
+     * for an element if the deque is empty.
+     *
+     * @param timeout how long to wait, in units of unit
+     * @param unit the unit of timeout
+     * @return the data formerly at the front, null if the deque stayed empty
+     * @throws java.lang.IllegalArgumentException if unit is null
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     */
+    public T pollFirst(long timeout, TimeUnit unit)
+        throws InterruptedException {
+        checkUnit(unit);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (deque.size() == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            T data = deque.removeFirst();
+            notFull.signal();
+            return data;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the data at the front of the deque without waiting.
+     *
+     * @return the data formerly at the front, null if the deque was empty
+     */
+    public T pollFirst() {
+        lock.lock();
+        try {
+            if (deque.size() == 0) {
+                return null;
+            }
+            T data = deque.removeFirst();
+            notFull.signal();
+            return data;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves up to max elements from the front of the deque into the
+     * collection, in order, without waiting.
+     *
+     * @param collection receives the removed elements
+     * @param max the maximum number of elements to move
+     * @return the number of elements moved
+     * @throws java.lang.IllegalArgumentException if collection is null or
+     * max is negative
+     */
+    public int drainTo(Collection<? super T> collection, int max) {
+        checkDrain(collection, max);
+        lock.lock();
+        try {
+            return drainLocked(collection, max);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves up to max elements from the front of the deque into the
+     * collection, in order, first waiting up to the timeout for at least
+     * one element if the deque is empty.
+     *
+     * @param collection receives the removed elements
+     * @param max the maximum number of elements to move
+     * @param timeout how long to wait, in units of unit
+     * @param unit the unit of timeout
+     * @return the number of elements moved, 0 if the deque stayed empty
+     * @throws java.lang.IllegalArgumentException if collection or unit is
+     * null or max is negative
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     */
+    public int drainTo(Collection<? super T> collection, int max,
+            long timeout, TimeUnit unit) throws InterruptedException {
+        checkDrain(collection, max);
+        checkUnit(unit);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (deque.size() == 0 && max > 0) {
+                if (nanos <= 0) {
+                    return 0;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return drainLocked(collection, max);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of elements in the deque.
+     *
+     * @return the size of the deque
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return deque.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns how many more elements the deque accepts without blocking.
+     *
+     * @return the remaining capacity
+     */
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - deque.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the data at one end, waiting for room.
+     *
+     * @param data the data to add
+     * @param first true to add at the front, false at the back
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     */
+    private void put(T data, boolean first) throws InterruptedException {
+        checkData(data);
+        lock.lockInterruptibly();
+        try {
+            while (deque.size() == capacity) {
+                notFull.await();
+            }
+            if (first) {
+                deque.addFirst(data);
+            } else {
+                deque.addLast(data);
+            }
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the data at one end, waiting for an element.
+     *
+     * @param first true to remove from the front, false from the back
+     * @return the removed data
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     */
+    private T take(boolean first) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (deque.size() == 0) {
+                notEmpty.await();
+            }
+            T data = first ? deque.removeFirst() : deque.removeLast();
+            notFull.signal();
+            return data;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves up to max elements into the collection. The lock must be held.
+     * Wakes every waiting producer, since several may now fit.
+     *
+     * @param collection receives the removed elements
+     * @param max the maximum number of elements to move
+     * @return the number of elements moved
+     */
+    private int drainLocked(Collection<? super T> collection, int max) {
+        int moved = 0;
+        while (moved < max && deque.size() > 0) {
+            collection.add(deque.removeFirst());
+            moved++;
+        }
+        if (moved > 0) {
+            notFull.signalAll();
+        }
+        return moved;
+    }
+
+    /**
+     * Rejects null data.
+     *
+     * @param data the data to check
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    private static void checkData(Object data) {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+    }
+
+    /**
+     * Rejects a null time unit.
+     *
+     * @param unit the unit to check
+     * @throws java.lang.IllegalArgumentException if unit is null
+     */
+    private static void checkUnit(TimeUnit unit) {
+        if (unit == null) {
+            throw new IllegalArgumentException("unit cannot be null");
+        }
+    }
+
+    /**
+     * Rejects invalid drainTo arguments.
+     *
+     * @param collection the target collection
+     * @param max the maximum number of elements to move
+     * @throws java.lang.IllegalArgumentException if collection is null or
+     * max is negative
+     */
+    private static void checkDrain(Collection<?> collection, int max) {
+        if (collection == null) {
+            throw new IllegalArgumentException("collection cannot be null");
+        }
+        if (max < 0) {
+            throw new IllegalArgumentException("max cannot be negative");
+        }
+    }
+}
@@ -0,0 +1,107 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for BlockingArrayDeque.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class BlockingArrayDequeTests {
+
+    private BlockingArrayDeque<Integer> deque;
+
+    public static final int TIMEOUT = 10000;
+
+    @Before
+    public void setup() {
+        deque = new BlockingArrayDeque<>(4);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPutAndTakeAtBothEnds() throws Exception {
+        deque.putLast(2);
+        deque.putFirst(1);
+        deque.putLast(3);
+        assertEquals(3, deque.size());
+        assertEquals(1, deque.remainingCapacity());
+        assertEquals((Integer) 3, deque.takeLast());
+        assertEquals((Integer) 1, deque.takeFirst());
+        assertEquals((Integer) 2, deque.pollFirst());
+        assertNull(deque.pollFirst());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testTimedOperationsTimeOut() throws Exception {
+        assertNull(deque.pollFirst(20, TimeUnit.MILLISECONDS));
+        for (int i = 0; i < 4; i++) {
+            assertTrue(deque.offerLast(i, 0, TimeUnit.MILLISECONDS));
+        }
+        assertFalse(deque.offerLast(4, 20, TimeUnit.MILLISECONDS));
+        assertEquals(0, deque.remainingCapacity());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testTakeWaitsForProducer() throws Exception {
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+                deque.putLast(7);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        assertEquals((Integer) 7, deque.takeFirst());
+        producer.join();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDrainToMovesBatchesInOrder() throws Exception {
+        final int count = 10000;
+        deque = new BlockingArrayDeque<>(64);
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < count; i++) {
+                    deque.putLast(i);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        List<Integer> received = new ArrayList<>();
+        while (received.size() < count) {
+            deque.drainTo(received, 32, 1, TimeUnit.SECONDS);
+        }
+        producer.join();
+        for (int i = 0; i < count; i++) {
+            assertEquals((Integer) i, received.get(i));
+        }
+        assertEquals(0, deque.drainTo(received, 10));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDrainToWithZeroMax() throws Exception {
+        deque.putLast(1);
+        List<Integer> received = new ArrayList<>();
+        assertEquals(0, deque.drainTo(received, 0, 1, TimeUnit.SECONDS));
+        assertEquals(1, deque.drainTo(received, 5));
+        assertEquals((Integer) 1, received.get(0));
+    }
+
+    @Test(timeout = TIMEOUT, expected = InterruptedException.class)
+    public void testTakeIsInterruptible() throws Exception {
+        Thread.currentThread().interrupt();
+        deque.takeFirst();
+    }
+}
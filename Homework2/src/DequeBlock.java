@@ -0,0 +1,94 @@
+/**
+ * Block class used by BlockLinkedDeque. A block holds a fixed number of
+ * slots and links to its neighbouring blocks on both sides.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class DequeBlock<T> {
+    private final Object[] slots;
+    private DequeBlock<T> previous;
+    private DequeBlock<T> next;
+
+    /**
+     * Creates a new, unlinked DequeBlock with empty slots.
+     *
+     * @param capacity the number of slots in the block
+     */
+    public DequeBlock(int capacity) {
+        slots = new Object[capacity];
+    }
+
+    /**
+     * Gets the data in a slot.
+     *
+     * @param index the index of the slot
+     * @return the data in the slot, null if the slot is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        return (T) slots[index];
+    }
+
+    /**
+     * Sets the data in a slot.
+     *
+     * @param index the index of the slot
+     * @param data the new data, null to empty the slot
+     */
+    public void set(int index, T data) {
+        slots[index] = data;
+    }
+
+    /**
+     * Gets the number of slots in the block.
+     *
+     * @return the capacity of the block
+     */
+    public int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Gets the block before this one.
+     *
+     * @return the previous block
+     */
+    public DequeBlock<T> getPrevious() {
+        return previous;
+    }
+
+    /**
+     * Sets the block before this one.
+     *
+     * @param previous the new previous block
+     */
+    public void setPrevious(DequeBlock<T> previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Gets the block after this one.
+     *
+     * @return the next block
+     */
+    public DequeBlock<T> getNext() {
+        return next;
+    }
+
+    /**
+     * Sets the block after this one.
+     *
+     * @param next the new next block
+     */
+    public void setNext(DequeBlock<T> next) {
+        this.next = next;
+    }
+
+    @Override
+    public String toString() {
+        return "Block of " + slots.length + " slots";
+    }
+}
@@ -0,0 +1,135 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the iterators, spliterators and streams of ArrayDeque and
+ * LinkedDeque.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class DequeIterationTests {
+
+    private ArrayDeque<Integer> array;
+    private LinkedDeque<Integer> linked;
+
+    public static final int TIMEOUT = 5000;
+
+    @Before
+    public void setup() {
+        array = new ArrayDeque<>();
+        linked = new LinkedDeque<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testArrayIteratorFollowsWrappedOrder() {
+        for (int i = 0; i < 6; i++) {
+            array.addFirst(5 - i);
+            array.addLast(6 + i);
+        }
+        int expected = 0;
+        for (Integer value : array) {
+            assertEquals((Integer) expected++, value);
+        }
+        assertEquals(12, expected);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testArraySpliteratorSplitsInHalves() {
+        for (int i = 0; i < 10; i++) {
+            array.addFirst(i);
+        }
+        Spliterator<Integer> right = array.spliterator();
+        int expected = Spliterator.SIZED | Spliterator.SUBSIZED
+                | Spliterator.ORDERED | Spliterator.NONNULL;
+        assertEquals(expected, right.characteristics() & expected);
+        Spliterator<Integer> left = right.trySplit();
+        assertEquals(5, left.estimateSize());
+        assertEquals(5, right.estimateSize());
+        StringBuilder order = new StringBuilder();
+        left.forEachRemaining(order::append);
+        right.forEachRemaining(order::append);
+        assertEquals("9876543210", order.toString());
+
+        Spliterator<Integer> single = array.spliterator();
+        while (single.estimateSize() > 1) {
+            assertTrue(single.trySplit() != null);
+        }
+        assertNull(single.trySplit());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testParallelStreamMatchesSequential() {
+        ArrayDeque<Integer> masked = new ArrayDeque<>(true);
+        long expected = 0;
+        for (int i = 0; i < 100000; i++) {
+            masked.addLast(i);
+            expected += i;
+        }
+        for (int i = 0; i < 1000; i++) {
+            expected -= masked.removeFirst();
+            masked.addLast(i);
+            expected += i;
+        }
+        assertEquals(expected,
+                masked.stream().parallel().mapToLong(i -> i).sum());
+        assertEquals(masked.stream().collect(Collectors.toList()),
+                masked.stream().parallel().collect(Collectors.toList()));
+    }
+
+    @Test(timeout = TIMEOUT, expected = ConcurrentModificationException.class)
+    public void testArrayIteratorFailsFast() {
+        array.addLast(1);
+        array.addLast(2);
+        Iterator<Integer> iterator = array.iterator();
+        iterator.next();
+        array.addLast(3);
+        iterator.next();
+    }
+
+    @Test(timeout = TIMEOUT, expected = ConcurrentModificationException.class)
+    public void testArrayForEachFailsFast() {
+        for (int i = 0; i < 5; i++) {
+            array.addLast(i);
+        }
+        array.stream().forEach(value -> array.removeLast());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLinkedIterationAndStream() {
+        assertFalse(linked.iterator().hasNext());
+        for (int i = 0; i < 2000; i++) {
+            linked.addLast(i);
+        }
+        int expected = 0;
+        for (Integer value : linked) {
+            assertEquals((Integer) expected++, value);
+        }
+        Spliterator<Integer> spliterator = linked.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals(2000, spliterator.estimateSize());
+        assertEquals(1999000L,
+                linked.stream().parallel().mapToLong(i -> i).sum());
+    }
+
+    @Test(timeout = TIMEOUT, expected = ConcurrentModificationException.class)
+    public void testLinkedIteratorFailsFast() {
+        linked.setNodePoolCapacity(4);
+        linked.addLast(1);
+        linked.addLast(2);
+        Iterator<Integer> iterator = linked.iterator();
+        linked.removeFirst();
+        iterator.next();
+    }
+}
@@ -1,18 +1,36 @@
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Your implementation of a linked deque.
  *
+ * Removed nodes can be recycled through a bounded free list (see
+ * {@link #setNodePoolCapacity(int)}), so workloads that keep adding and
+ * removing stop allocating a new LinkedNode per add.
+ *
+ * Iterators and spliterators are fail-fast: once the deque is modified
+ * other than through them, they throw a ConcurrentModificationException.
+ *
  * @author Yuqi Cao
  * @userid ycao344
  * @GTID YOUR GT ID HERE (e.g. 900000000)
  * @version 1.0
  */
-public class LinkedDeque<T> {
-    // Do not add new instance variables.
+public class LinkedDeque<T> implements Iterable<T> {
     private LinkedNode<T> head;
     private LinkedNode<T> tail;
     private int size;
+    private int modCount;
+
+    private LinkedNode<T> freeNodes;
+    private int freeNodeCount;
+    private int nodePoolCapacity;
+    private long nodeAllocations;
+    private long nodeReuses;
 
     /**
      * Adds the data to the front of the deque.
@@ -26,16 +44,17 @@ public class LinkedDeque<T> {
         if (data == null) {
             throw new IllegalArgumentException("data cannot be null");
         }
+        LinkedNode<T> linkNode = obtainNode(data);
         if (head == null) {
-            head = new LinkedNode<>(data);
+            head = linkNode;
             tail = head;
         } else {
-            LinkedNode<T> linkNode = new LinkedNode<>(data);
             linkNode.setNext(head);
             head.setPrevious(linkNode);
             head = linkNode;
         }
         size++;
+        modCount++;
     }
 
     /**
@@ -50,16 +69,17 @@ public class LinkedDeque<T> {
         if (data == null) {
             throw new IllegalArgumentException("data cannot be null");
         }
+        LinkedNode<T> newNode = obtainNode(data);
         if (tail == null) {
-            tail = new LinkedNode<>(data);
+            tail = newNode;
             head = tail;
         } else {
-            LinkedNode<T> newNode = new LinkedNode<>(data);
             tail.setNext(newNode);
             newNode.setPrevious(tail);
             tail = newNode;
         }
         size++;
+        modCount++;
     }
 
     /**
@@ -74,10 +94,17 @@ public class LinkedDeque<T> {
         if (head == null) {
             throw new NoSuchElementException("it's an empty deque");
         } else {
-            T data = head.getData();
-            head.getNext().setPrevious(null);
-            head = head.getNext();
+            LinkedNode<T> removed = head;
+            T data = removed.getData();
+            head = removed.getNext();
+            if (head == null) {
+                tail = null;
+            } else {
+                head.setPrevious(null);
+            }
             size--;
+            modCount++;
+            recycleNode(removed);
             return data;
         }
     }
@@ -94,19 +121,146 @@ public class LinkedDeque<T> {
         if (tail == null) {
             throw new NoSuchElementException("the deque is empty");
         } else {
-            T data = tail.getData();
-            tail.getPrevious().setNext(null);
-            tail = tail.getPrevious();
+            LinkedNode<T> removed = tail;
+            T data = removed.getData();
+            tail = removed.getPrevious();
+            if (tail == null) {
+                head = null;
+            } else {
+                tail.setNext(null);
+            }
             size--;
+            modCount++;
+            recycleNode(removed);
             return data;
         }
     }
 
+    /**
+     * Returns a fail-fast iterator over the elements from front to back.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new LinkedDequeIterator<>(this, head, modCount);
+    }
+
+    /**
+     * Returns a fail-fast spliterator over the elements from front to back.
+     * It reports SIZED, SUBSIZED, ORDERED and NONNULL. A linked list cannot
+     * be split in the middle without walking it, so splits hand off batches
+     * of elements copied into arrays.
+     *
+     * @return the spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns a sequential stream of the elements from front to back.
+     *
+     * @return the stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns the number of structural modifications so far, for the
+     * fail-fast checks of iterators.
+     *
+     * @return the modification count
+     */
+    int getModCount() {
+        return modCount;
+    }
+
+    /**
+     * Sets how many removed nodes this deque may keep for reuse by later
+     * adds. A capacity of 0, the default, disables recycling. Shrinking the
+     * capacity drops the surplus pooled nodes.
+     *
+     * Recycled nodes are handed out again, so callers must not hold on to
+     * nodes obtained from {@code getHead()} or {@code getTail()} after the
+     * data they carry has been removed.
+     *
+     * @param capacity the maximum number of pooled nodes
+     * @throws java.lang.IllegalArgumentException if capacity is negative
+     */
+    public void setNodePoolCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity cannot be negative");
+        }
+        nodePoolCapacity = capacity;
+        while (freeNodeCount > capacity) {
+            freeNodes = freeNodes.getNext();
+            freeNodeCount--;
+        }
+    }
+
+    /**
+     * Returns the number of LinkedNodes this deque has allocated.
+     *
+     * @return the number of nodes created with {@code new}
+     */
+    public long getNodeAllocations() {
+        return nodeAllocations;
+    }
+
+    /**
+     * Returns the number of adds that were served by a recycled node.
+     *
+     * @return the number of nodes taken from the pool
+     */
+    public long getNodeReuses() {
+        return nodeReuses;
+    }
+
+    /**
+     * Returns an unlinked node holding data, taken from the pool when one
+     * is available.
+     *
+     * @param data the data for the node
+     * @return the initialized node
+     */
+    private LinkedNode<T> obtainNode(T data) {
+        LinkedNode<T> node = freeNodes;
+        if (node == null) {
+            nodeAllocations++;
+            return new LinkedNode<>(data);
+        }
+        freeNodes = node.getNext();
+        freeNodeCount--;
+        nodeReuses++;
+        node.setData(data);
+        node.setNext(null);
+        return node;
+    }
+
+    /**
+     * Returns a removed node to the pool if there is room for it.
+     *
+     * @param node the node that was unlinked from the deque
+     */
+    private void recycleNode(LinkedNode<T> node) {
+        if (freeNodeCount < nodePoolCapacity) {
+            node.setData(null);
+            node.setPrevious(null);
+            node.setNext(freeNodes);
+            freeNodes = node;
+            freeNodeCount++;
+        }
+    }
+
     /**
      * Returns the number of elements in the list.
      *
      * Runs in O(1) for all cases.
-     * 
+     *
      * DO NOT USE THIS METHOD IN YOUR CODE.
      *
      * @return the size of the list
@@ -141,4 +295,4 @@ public class LinkedDeque<T> {
         // DO NOT MODIFY!
         return tail;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator class used by LinkedDeque. It follows the next links from the
+ * head and fails fast once the deque has been modified, which also keeps
+ * it from wandering into nodes the deque has recycled.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class LinkedDequeIterator<T> implements Iterator<T> {
+    private final LinkedDeque<T> deque;
+    private final int expectedModCount;
+    private LinkedNode<T> next;
+
+    /**
+     * Creates a new LinkedDequeIterator.
+     *
+     * @param deque the deque being traversed
+     * @param head the head node of the deque
+     * @param expectedModCount the modification count of the deque
+     */
+    LinkedDequeIterator(LinkedDeque<T> deque, LinkedNode<T> head,
+            int expectedModCount) {
+        this.deque = deque;
+        this.next = head;
+        this.expectedModCount = expectedModCount;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public T next() {
+        if (deque.getModCount() != expectedModCount) {
+            throw new ConcurrentModificationException(
+                    "the deque was modified during traversal");
+        }
+        if (next == null) {
+            throw new NoSuchElementException("no more elements");
+        }
+        T data = next.getData();
+        next = next.getNext();
+        return data;
+    }
+}
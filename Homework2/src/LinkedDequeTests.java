@@ -0,0 +1,61 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for LinkedDeque edge cases and node recycling.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class LinkedDequeTests {
+    private LinkedDeque<Integer> deque;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setup() {
+        deque = new LinkedDeque<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveOnlyElement() {
+        deque.addFirst(1);
+        assertEquals((Integer) 1, deque.removeFirst());
+        assertNull(deque.getHead());
+        assertNull(deque.getTail());
+        deque.addLast(2);
+        assertEquals((Integer) 2, deque.removeLast());
+        assertNull(deque.getHead());
+        assertNull(deque.getTail());
+        assertEquals(0, deque.size());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveFromEmpty() {
+        deque.removeLast();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testChurnReusesNodes() {
+        deque.setNodePoolCapacity(8);
+        for (int i = 0; i < 1000; i++) {
+            deque.addLast(i);
+            deque.addFirst(-i);
+            assertEquals((Integer) i, deque.removeLast());
+            assertEquals((Integer) (-i), deque.removeFirst());
+        }
+        assertEquals(2, deque.getNodeAllocations());
+        assertEquals(1998, deque.getNodeReuses());
+
+        deque.addLast(1);
+        deque.addLast(2);
+        assertNull(deque.getHead().getPrevious());
+        assertEquals(deque.getHead(), deque.getTail().getPrevious());
+        assertNull(deque.getTail().getNext());
+    }
+}
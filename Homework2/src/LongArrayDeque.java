@@ -0,0 +1,291 @@
+import java.util.NoSuchElementException;
+
+/**
+ * A circular array deque of primitive longs. It follows the ring buffer of
+ * ArrayDeque, but stores values in an {@code long[]} so nothing is boxed,
+ * and keeps its capacity a power of two so indices wrap with a mask.
+ *
+ * The bulk methods {@link #addAll(long[])} and {@link #drainTo(long[], int)}
+ * move whole ranges with {@code System.arraycopy} and allocate nothing
+ * unless the deque has to grow.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class LongArrayDeque {
+
+    /**
+     * The initial capacity of the LongArrayDeque.
+     */
+    public static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The largest capacity of the LongArrayDeque, the largest power of two an
+     * array can hold.
+     */
+    public static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] backingArray;
+    private int front;
+    private int back;
+    private int size;
+
+    /**
+     * Constructs a new LongArrayDeque with an initial capacity of
+     * the {@code INITIAL_CAPACITY} constant above.
+     */
+    public LongArrayDeque() {
+        backingArray = new long[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Adds the value to the front of the deque, doubling the backing array
+     * if it is full.
+     *
+     * This method must run in amortized O(1) time.
+     *
+     * @param data the value to add to the deque
+     * @throws java.lang.IllegalStateException if the deque already holds
+     * {@code MAX_CAPACITY} values
+     */
+    public void addFirst(long data) {
+        if (size == backingArray.length) {
+            grow();
+        }
+        front = (front - 1) & (backingArray.length - 1);
+        backingArray[front] = data;
+        size++;
+    }
+
+    /**
+     * Adds the value to the back of the deque, doubling the backing array
+     * if it is full.
+     *
+     * This method must run in amortized O(1) time.
+     *
+     * @param data the value to add to the deque
+     * @throws java.lang.IllegalStateException if the deque already holds
+     * {@code MAX_CAPACITY} values
+     */
+    public void addLast(long data) {
+        if (size == backingArray.length) {
+            grow();
+        }
+        backingArray[back] = data;
+        back = (back + 1) & (backingArray.length - 1);
+        size++;
+    }
+
+    /**
+     * Adds all the values to the back of the deque, in order.
+     *
+     * This method runs in O(values.length) time, plus a single resize if the
+     * deque has to grow.
+     *
+     * @param values the values to add
+     * @throws java.lang.IllegalArgumentException if values is null, or if
+     * the deque would hold more than {@code MAX_CAPACITY} values
+     */
+    public void addAll(long[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("values cannot be null");
+        }
+        long required = (long) size + values.length;
+        if (required > backingArray.length) {
+            resize(ceilPowerOfTwo(required));
+        }
+        int firstPart = Math.min(values.length, backingArray.length - back);
+        System.arraycopy(values, 0, backingArray, back, firstPart);
+        System.arraycopy(values, firstPart, backingArray, 0,
+                values.length - firstPart);
+        back = (back + values.length) & (backingArray.length - 1);
+        size += values.length;
+    }
+
+    /**
+     * Removes the value at the front of the deque.
+     *
+     * This method must run in O(1) time.
+     *
+     * @return the value formerly at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public long removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("the deque is empty");
+        }
+        long data = backingArray[front];
+        front = (front + 1) & (backingArray.length - 1);
+        size--;
+        return data;
+    }
+
+    /**
+     * Removes the value at the back of the deque.
+     *
+     * This method must run in O(1) time.
+     *
+     * @return the value formerly at the back of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public long removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("the deque is empty");
+        }
+        back = (back - 1) & (backingArray.length - 1);
+        size--;
+        return backingArray[back];
+    }
+
+    /**
+     * Returns the value at the front of the deque without removing it.
+     *
+     * This method must run in O(1) time.
+     *
+     * @return the value at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public long getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("the deque is empty");
+        }
+        return backingArray[front];
+    }
+
+    /**
+     * Returns the value at the back of the deque without removing it.
+     *
+     * This method must run in O(1) time.
+     *
+     * @return the value at the back of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public long getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("the deque is empty");
+        }
+        return backingArray[(back - 1) & (backingArray.length - 1)];
+    }
+
+    /**
+     * Removes up to {@code max} values from the front of the deque and
+     * copies them, in order, to the start of dest. Fewer values are moved
+     * if the deque or dest is smaller.
+     *
+     * This method runs in O(k) time for k moved values.
+     *
+     * @param dest the array receiving the values
+     * @param max the maximum number of values to move
+     * @return the number of values moved
+     * @throws java.lang.IllegalArgumentException if dest is null or max is
+     * negative
+     */
+    public int drainTo(long[] dest, int max) {
+        if (dest == null) {
+            throw new IllegalArgumentException("dest cannot be null");
+        }
+        if (max < 0) {
+            throw new IllegalArgumentException("max cannot be negative");
+        }
+        int count = Math.min(Math.min(max, size), dest.length);
+        int firstPart = Math.min(count, backingArray.length - front);
+        System.arraycopy(backingArray, front, dest, 0, firstPart);
+        System.arraycopy(backingArray, 0, dest, firstPart, count - firstPart);
+        front = (front + count) & (backingArray.length - 1);
+        size -= count;
+        return count;
+    }
+
+    /**
+     * Makes sure the backing array can hold at least {@code minCapacity}
+     * values without regrowing, rounding up to a power of two.
+     *
+     * @param minCapacity the number of values the deque should hold
+     * @throws java.lang.IllegalArgumentException if minCapacity is more
+     * than {@code MAX_CAPACITY}
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > backingArray.length) {
+            resize(ceilPowerOfTwo(minCapacity));
+        }
+    }
+
+    /**
+     * Returns a boolean value indicating if the deque is empty.
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Doubles the backing array.
+     *
+     * @throws java.lang.IllegalStateException if the backing array already
+     * has {@code MAX_CAPACITY} slots
+     */
+    private void grow() {
+        if (backingArray.length == MAX_CAPACITY) {
+            throw new IllegalStateException(
+                    "the deque cannot hold more than 2^30 values");
+        }
+        resize(backingArray.length * 2);
+    }
+
+    /**
+     * Moves the values into a new backing array of the given power-of-two
+     * capacity, starting at index 0.
+     *
+     * @param capacity the capacity of the new array, at least size
+     */
+    private void resize(int capacity) {
+        long[] newBackingArray = new long[capacity];
+        int firstPart = Math.min(size, backingArray.length - front);
+        System.arraycopy(backingArray, front, newBackingArray, 0, firstPart);
+        System.arraycopy(backingArray, 0, newBackingArray, firstPart,
+                size - firstPart);
+        backingArray = newBackingArray;
+        front = 0;
+        back = size & (capacity - 1);
+    }
+
+    /**
+     * Returns the smallest power of two that is at least n.
+     *
+     * @param n the lower bound
+     * @return the power of two, 1 if n is less than 1
+     * @throws java.lang.IllegalArgumentException if n is more than
+     * {@code MAX_CAPACITY}
+     */
+    private static int ceilPowerOfTwo(long n) {
+        if (n > MAX_CAPACITY) {
+            throw new IllegalArgumentException(
+                    "capacity cannot be more than 2^30");
+        }
+        return n <= 1 ? 1 : Integer.highestOneBit((int) n - 1) << 1;
+    }
+
+    /**
+     * Returns the number of values in the deque.
+     *
+     * Runs in O(1) for all cases.
+     *
+     * @return the size of the deque
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the backing array of this deque.
+     * Normally, you would not do this, but it's necessary for testing purposes.
+     *
+     * @return the backing array
+     */
+    public long[] getBackingArray() {
+        return backingArray;
+    }
+}
@@ -0,0 +1,264 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * A bounded, lock-free multi-producer/multi-consumer queue built on the
+ * same circular array idea as ArrayDeque: elements live in a fixed
+ * power-of-two array and a position maps to the slot
+ * {@code position & (capacity - 1)}.
+ *
+ * Each slot carries a sequence number that says whose turn it is:
+ * <ul>
+ * <li>{@code sequence == position}: the slot is free for the producer that
+ * claims {@code position};</li>
+ * <li>{@code sequence == position + 1}: the slot holds the element for the
+ * consumer that claims {@code position};</li>
+ * <li>after consuming, the slot is handed to the producer one lap later by
+ * setting {@code sequence = position + capacity}.</li>
+ * </ul>
+ * Producers claim positions by CAS on the tail counter and consumers by
+ * CAS on the head counter. The two counters are PaddedSequences, so the
+ * producer and consumer sides never share a cache line. The batch methods
+ * claim a whole run of slots with a single CAS.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class MpmcRingBuffer<T> {
+    private final Object[] buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final PaddedSequence head = new PaddedSequence(0);
+    private final PaddedSequence tail = new PaddedSequence(0);
+
+    /**
+     * Constructs a new MpmcRingBuffer holding at least {@code capacity}
+     * elements. The capacity is rounded up to a power of two.
+     *
+     * @param capacity the minimum number of elements the buffer can hold
+     * @throws java.lang.IllegalArgumentException if capacity is not
+     * between 1 and 2^30
+     */
+    public MpmcRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException(
+                    "capacity must be between 1 and 2^30");
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        buffer = new Object[size];
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        mask = size - 1;
+    }
+
+    /**
+     * Adds the element at the tail if there is room.
+     *
+     * Lock-free; O(1) when uncontended.
+     *
+     * @param data the element to add
+     * @return true if added, false if the buffer was full
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean offer(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer[index] = data;
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the element at the head, if there is one.
+     *
+     * Lock-free; O(1) when uncontended.
+     *
+     * @return the element formerly at the head, null if the buffer was empty
+     */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long position = head.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - (position + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    T data = (T) buffer[index];
+                    buffer[index] = null;
+                    sequences.lazySet(index, position + mask + 1);
+                    return data;
+                }
+                position = head.get();
+            } else if (diff < 0) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * Adds as many of the elements as fit, in order, claiming the slots for
+     * each run of free slots with a single CAS. Stops at the first element
+     * that does not fit.
+     *
+     * O(k) for k added elements when uncontended.
+     *
+     * @param items the elements to add
+     * @return the number of elements added, a prefix of items
+     * @throws java.lang.IllegalArgumentException if items or any element in
+     * it is null
+     */
+    public int offerAll(T[] items) {
+        if (items == null) {
+            throw new IllegalArgumentException("items cannot be null");
+        }
+        for (T item : items) {
+            if (item == null) {
+                throw new IllegalArgumentException("items cannot hold null");
+            }
+        }
+        int added = 0;
+        while (added < items.length) {
+            long position = tail.get();
+            int wanted = Math.min(items.length - added, mask + 1);
+            int free = 0;
+            while (free < wanted
+                    && sequenceAt(position + free) == position + free) {
+                free++;
+            }
+            if (free == 0) {
+                if (sequenceAt(position) < position) {
+                    return added;
+                }
+            } else if (tail.compareAndSet(position, position + free)) {
+                for (int i = 0; i < free; i++) {
+                    int index = (int) ((position + i) & mask);
+                    buffer[index] = items[added + i];
+                    sequences.lazySet(index, position + i + 1);
+                }
+                added += free;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Removes up to {@code max} elements from the head and hands them, in
+     * order, to the consumer. Each run of ready slots is claimed with a
+     * single CAS, and each slot is handed back to producers just before its
+     * element goes to the consumer.
+     *
+     * Claimed elements cannot be put back, so a throwing consumer does not
+     * cut a run short: the rest of the claimed run is still handed to it,
+     * every slot is released, and the first exception is rethrown at the
+     * end of the run, with later ones added as suppressed. No further runs
+     * are claimed after a failure.
+     *
+     * O(k) for k removed elements when uncontended.
+     *
+     * @param consumer receives each removed element
+     * @param max the maximum number of elements to remove
+     * @return the number of elements removed
+     * @throws java.lang.IllegalArgumentException if consumer is null or max
+     * is negative
+     */
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<? super T> consumer, int max) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("consumer cannot be null");
+        }
+        if (max < 0) {
+            throw new IllegalArgumentException("max cannot be negative");
+        }
+        int removed = 0;
+        while (removed < max) {
+            long position = head.get();
+            int wanted = Math.min(max - removed, mask + 1);
+            int ready = 0;
+            while (ready < wanted
+                    && sequenceAt(position + ready) == position + ready + 1) {
+                ready++;
+            }
+            if (ready == 0) {
+                if (sequenceAt(position) < position + 1) {
+                    return removed;
+                }
+            } else if (head.compareAndSet(position, position + ready)) {
+                Throwable failure = null;
+                for (int i = 0; i < ready; i++) {
+                    int index = (int) ((position + i) & mask);
+                    T data = (T) buffer[index];
+                    buffer[index] = null;
+                    sequences.lazySet(index, position + i + mask + 1);
+                    try {
+                        consumer.accept(data);
+                    } catch (RuntimeException | Error e) {
+                        if (failure == null) {
+                            failure = e;
+                        } else {
+                            failure.addSuppressed(e);
+                        }
+                    }
+                }
+                removed += ready;
+                if (failure instanceof Error) {
+                    throw (Error) failure;
+                } else if (failure != null) {
+                    throw (RuntimeException) failure;
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Reads the sequence number of the slot for a position, with volatile
+     * semantics.
+     *
+     * @param position the position
+     * @return the sequence number of its slot
+     */
+    private long sequenceAt(long position) {
+        return sequences.get((int) (position & mask));
+    }
+
+    /**
+     * Returns the number of elements the buffer can hold.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns the number of elements in the buffer. Under concurrent
+     * updates this is a momentary estimate.
+     *
+     * @return the size of the buffer
+     */
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, mask + 1));
+    }
+}
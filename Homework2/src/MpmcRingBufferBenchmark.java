@@ -0,0 +1,155 @@
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Throughput and latency benchmark for MpmcRingBuffer against an ArrayDeque
+ * guarded by {@code synchronized}, for every combination of 1, 2, 4, ...
+ * producer and consumer threads.
+ *
+ * Producers enqueue their {@code System.nanoTime()} as the element, so
+ * consumers can measure how long each element waited in the queue. Every
+ * producer and consumer moves a fixed share of the elements and keeps its
+ * own count and latency total, which are summed after the join, so the
+ * threads share no counter besides the queue itself. Both
+ * queues are bounded to {@code CAPACITY} elements, and threads yield when
+ * the queue is full or empty.
+ *
+ * Run with {@code java MpmcRingBufferBenchmark [maxThreads] [items]}.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class MpmcRingBufferBenchmark {
+
+    /**
+     * The number of elements either queue may hold.
+     */
+    public static final int CAPACITY = 1024;
+
+    /**
+     * Runs the benchmark and prints one line per thread combination.
+     *
+     * @param args optional maximum thread count per side and item count
+     * @throws InterruptedException if interrupted while joining workers
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0])
+                : Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        int items = args.length > 1 ? Integer.parseInt(args[1]) : 2000000;
+        runLocked(1, 1, items / 10);
+        runRing(1, 1, items / 10);
+        System.out.printf("%4s %4s | %12s %14s | %12s %14s%n", "prod", "cons",
+                "locked Mops", "locked lat ns", "ring Mops", "ring lat ns");
+        for (int producers = 1; producers <= maxThreads; producers *= 2) {
+            for (int consumers = 1; consumers <= maxThreads; consumers *= 2) {
+                double[] locked = runLocked(producers, consumers, items);
+                double[] ring = runRing(producers, consumers, items);
+                System.out.printf("%4d %4d | %12.2f %14.0f | %12.2f %14.0f%n",
+                        producers, consumers, locked[0], locked[1], ring[0],
+                        ring[1]);
+            }
+        }
+    }
+
+    /**
+     * Measures the synchronized ArrayDeque.
+     *
+     * @param producers the number of producer threads
+     * @param consumers the number of consumer threads
+     * @param items the number of elements to transfer
+     * @return throughput in Mops/s and mean latency in ns
+     * @throws InterruptedException if interrupted while joining workers
+     */
+    private static double[] runLocked(int producers, int consumers,
+            int items) throws InterruptedException {
+        ArrayDeque<Long> deque = new ArrayDeque<>(true);
+        return run(producers, consumers, items, value -> {
+            synchronized (deque) {
+                if (deque.size() >= CAPACITY) {
+                    return false;
+                }
+                deque.addLast(value);
+                return true;
+            }
+        }, () -> {
+            synchronized (deque) {
+                return deque.size() == 0 ? null : deque.removeFirst();
+            }
+        });
+    }
+
+    /**
+     * Measures the MpmcRingBuffer.
+     *
+     * @param producers the number of producer threads
+     * @param consumers the number of consumer threads
+     * @param items the number of elements to transfer
+     * @return throughput in Mops/s and mean latency in ns
+     * @throws InterruptedException if interrupted while joining workers
+     */
+    private static double[] runRing(int producers, int consumers, int items)
+        throws InterruptedException {
+        MpmcRingBuffer<Long> ring = new MpmcRingBuffer<>(CAPACITY);
+        return run(producers, consumers, items, ring::offer, ring::poll);
+    }
+
+    /**
+     * Transfers items elements from the producers to the consumers through
+     * the given queue operations.
+     *
+     * @param producers the number of producer threads
+     * @param consumers the number of consumer threads
+     * @param items the number of elements to transfer
+     * @param offer adds an element, returning false if the queue is full
+     * @param poll removes an element, returning null if the queue is empty
+     * @return throughput in Mops/s and mean latency in ns
+     * @throws InterruptedException if interrupted while joining workers
+     */
+    private static double[] run(int producers, int consumers, int items,
+            Predicate<Long> offer, Supplier<Long> poll)
+        throws InterruptedException {
+        long[] latencies = new long[consumers];
+        Thread[] threads = new Thread[producers + consumers];
+        for (int p = 0; p < producers; p++) {
+            int share = items / producers + (p < items % producers ? 1 : 0);
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < share; i++) {
+                    while (!offer.test(System.nanoTime())) {
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+        for (int c = 0; c < consumers; c++) {
+            int consumer = c;
+            int share = items / consumers + (c < items % consumers ? 1 : 0);
+            threads[producers + c] = new Thread(() -> {
+                long waited = 0;
+                int consumed = 0;
+                while (consumed < share) {
+                    Long stamp = poll.get();
+                    if (stamp == null) {
+                        Thread.yield();
+                    } else {
+                        waited += System.nanoTime() - stamp;
+                        consumed++;
+                    }
+                }
+                latencies[consumer] = waited;
+            });
+        }
+        long start = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long latency = 0;
+        for (long waited : latencies) {
+            latency += waited;
+        }
+        return new double[] {items / seconds / 1e6, (double) latency / items};
+    }
+}
@@ -0,0 +1,150 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for MpmcRingBuffer, single-threaded and under contention.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class MpmcRingBufferTests {
+
+    private MpmcRingBuffer<Integer> ring;
+
+    public static final int TIMEOUT = 10000;
+
+    @Before
+    public void setup() {
+        ring = new MpmcRingBuffer<>(6);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testOfferPollWrapsAround() {
+        assertEquals(8, ring.capacity());
+        assertNull(ring.poll());
+        for (int lap = 0; lap < 3; lap++) {
+            for (int i = 0; i < 8; i++) {
+                assertTrue(ring.offer(lap * 8 + i));
+            }
+            assertFalse(ring.offer(-1));
+            assertEquals(8, ring.size());
+            for (int i = 0; i < 8; i++) {
+                assertEquals((Integer) (lap * 8 + i), ring.poll());
+            }
+            assertNull(ring.poll());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testBatchOperations() {
+        ring.offer(0);
+        ring.poll();
+        Integer[] items = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        assertEquals(8, ring.offerAll(items));
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(3, ring.drain(drained::add, 3));
+        assertEquals(5, ring.drain(drained::add, 100));
+        assertEquals(0, ring.drain(drained::add, 100));
+        for (int i = 0; i < 8; i++) {
+            assertEquals((Integer) (i + 1), drained.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testThrowingConsumerLosesNothing() {
+        for (int i = 0; i < 8; i++) {
+            ring.offer(i);
+        }
+        List<Integer> seen = new ArrayList<>();
+        try {
+            ring.drain(data -> {
+                seen.add(data);
+                if (data == 2 || data == 5) {
+                    throw new IllegalStateException("consumer failed " + data);
+                }
+            }, 8);
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("consumer failed 2", e.getMessage());
+            assertEquals(1, e.getSuppressed().length);
+        }
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7), seen);
+        assertEquals(0, ring.size());
+        for (int i = 0; i < 8; i++) {
+            assertTrue(ring.offer(i));
+        }
+        assertFalse(ring.offer(8));
+        assertEquals((Integer) 0, ring.poll());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testOfferAllRejectsNull() {
+        ring.offerAll(new Integer[] {1, null});
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testConcurrentTransferLosesNothing() throws Exception {
+        ring = new MpmcRingBuffer<>(1024);
+        final int producers = 3;
+        final int perProducer = 100000;
+        AtomicIntegerArray seen = new AtomicIntegerArray(
+                producers * perProducer);
+        Thread[] threads = new Thread[producers * 2];
+        for (int p = 0; p < producers; p++) {
+            final int base = p * perProducer;
+            final boolean batched = p == 0;
+            threads[p] = new Thread(() -> {
+                Integer[] batch = new Integer[1];
+                for (int i = 0; i < perProducer; i++) {
+                    batch[0] = base + i;
+                    while (batched ? ring.offerAll(batch) == 0
+                            : !ring.offer(base + i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            threads[producers + p] = new Thread(() -> {
+                int taken = 0;
+                while (taken < perProducer) {
+                    if (batched) {
+                        int moved = ring.drain(seen::incrementAndGet,
+                                perProducer - taken);
+                        if (moved == 0) {
+                            Thread.yield();
+                        }
+                        taken += moved;
+                    } else {
+                        Integer value = ring.poll();
+                        if (value != null) {
+                            seen.incrementAndGet(value);
+                            taken++;
+                        } else {
+                            Thread.yield();
+                        }
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int i = 0; i < seen.length(); i++) {
+            assertEquals(1, seen.get(i));
+        }
+        assertEquals(0, ring.size());
+    }
+}
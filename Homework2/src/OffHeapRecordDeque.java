@@ -0,0 +1,301 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.NoSuchElementException;
+
+/**
+ * A deque of fixed-width records stored outside the Java heap. It has the
+ * same circular layout as the power-of-two mode of ArrayDeque, but the
+ * slots are {@code recordSize} byte ranges of one direct ByteBuffer, and
+ * values are written and read through a RecordCodec. However many records
+ * are buffered, the heap only holds this object and the buffer header, so
+ * buffered data adds nothing to GC work.
+ *
+ * Records can be read without decoding through {@link #slice(int)}, which
+ * returns a read-only view of the record's bytes. Such a view is only
+ * valid until the record is removed or the deque grows; after that it may
+ * show another record.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class OffHeapRecordDeque<T> {
+
+    /**
+     * The initial number of record slots.
+     */
+    public static final int INITIAL_CAPACITY = 16;
+
+    private final RecordCodec<T> codec;
+    private final int recordSize;
+    private ByteBuffer buffer;
+    private int mask;
+    private int front;
+    private int size;
+
+    /**
+     * Constructs a new, empty OffHeapRecordDeque.
+     *
+     * @param codec converts values to and from records
+     * @throws java.lang.IllegalArgumentException if codec is null or its
+     * record size is not positive
+     */
+    public OffHeapRecordDeque(RecordCodec<T> codec) {
+        if (codec == null) {
+            throw new IllegalArgumentException("codec cannot be null");
+        }
+        if (codec.recordSize() < 1) {
+            throw new IllegalArgumentException(
+                    "record size must be positive");
+        }
+        this.codec = codec;
+        this.recordSize = codec.recordSize();
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Adds the value to the front of the deque.
+     *
+     * This method runs in amortized O(1) time.
+     *
+     * @param value the value to add
+     * @throws java.lang.IllegalArgumentException if value is null
+     */
+    public void addFirst(T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value cannot be null");
+        }
+        growIfFull();
+        front = (front - 1) & mask;
+        codec.encode(value, buffer, front * recordSize);
+        size++;
+    }
+
+    /**
+     * Adds the value to the back of the deque.
+     *
+     * This method runs in amortized O(1) time.
+     *
+     * @param value the value to add
+     * @throws java.lang.IllegalArgumentException if value is null
+     */
+    public void addLast(T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value cannot be null");
+        }
+        growIfFull();
+        codec.encode(value, buffer, ((front + size) & mask) * recordSize);
+        size++;
+    }
+
+    /**
+     * Removes the record at the front of the deque and decodes it.
+     *
+     * This method runs in O(1) time.
+     *
+     * @return the value formerly at the front
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T removeFirst() {
+        T value = codec.decode(buffer, offsetOf(0));
+        dropFirst();
+        return value;
+    }
+
+    /**
+     * Removes the record at the back of the deque and decodes it.
+     *
+     * This method runs in O(1) time.
+     *
+     * @return the value formerly at the back
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T removeLast() {
+        T value = codec.decode(buffer, offsetOf(size - 1));
+        dropLast();
+        return value;
+    }
+
+    /**
+     * Removes the record at the front of the deque without decoding it.
+     *
+     * This method runs in O(1) time.
+     *
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public void dropFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("the deque is empty");
+        }
+        front = (front + 1) & mask;
+        size--;
+        if (size == 0) {
+            front = 0;
+        }
+    }
+
+    /**
+     * Removes the record at the back of the deque without decoding it.
+     *
+     * This method runs in O(1) time.
+     *
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public void dropLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("the deque is empty");
+        }
+        size--;
+        if (size == 0) {
+            front = 0;
+        }
+    }
+
+    /**
+     * Decodes the record at the given position, 0 being the front.
+     *
+     * This method runs in O(1) time.
+     *
+     * @param index the position of the record
+     * @return the decoded value
+     * @throws java.lang.IndexOutOfBoundsException if index is not in
+     * [0, size)
+     */
+    public T get(int index) {
+        return codec.decode(buffer, offsetOf(index));
+    }
+
+    /**
+     * Returns a read-only view of the bytes of the record at the given
+     * position, 0 being the front, without copying them. The view has
+     * position 0, limit {@code recordSize} and the byte order of the
+     * deque's buffer.
+     *
+     * This method runs in O(1) time.
+     *
+     * @param index the position of the record
+     * @return the view of the record
+     * @throws java.lang.IndexOutOfBoundsException if index is not in
+     * [0, size)
+     */
+    public ByteBuffer slice(int index) {
+        return region(buffer, offsetOf(index), recordSize).asReadOnlyBuffer()
+                .order(buffer.order());
+    }
+
+    /**
+     * Removes every record. The off-heap buffer is kept.
+     */
+    public void clear() {
+        front = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the byte offset of the record at a position, checking the
+     * position.
+     *
+     * @param index the position of the record
+     * @return the offset of its first byte in the buffer
+     * @throws java.util.NoSuchElementException if the deque is empty
+     * @throws java.lang.IndexOutOfBoundsException if index is not in
+     * [0, size)
+     */
+    private int offsetOf(int index) {
+        if (size == 0) {
+            throw new NoSuchElementException("the deque is empty");
+        }
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index
+                    + " is out of bounds for size " + size);
+        }
+        return ((front + index) & mask) * recordSize;
+    }
+
+    /**
+     * Doubles the buffer if every slot is taken, copying the records so the
+     * front record lands in slot 0.
+     */
+    private void growIfFull() {
+        int capacity = mask + 1;
+        if (size < capacity) {
+            return;
+        }
+        if ((long) capacity * 2 * recordSize > Integer.MAX_VALUE) {
+            throw new IllegalStateException("the deque cannot grow further");
+        }
+        ByteBuffer old = buffer;
+        allocate(capacity * 2);
+        int firstPart = capacity - front;
+        ByteBuffer target = buffer.duplicate();
+        target.put(region(old, front * recordSize, firstPart * recordSize));
+        target.put(region(old, 0, front * recordSize));
+        front = 0;
+    }
+
+    /**
+     * Returns a view of a range of bytes that shares the source's memory.
+     * It is cut from a duplicate, so the source's position and limit are
+     * left alone.
+     *
+     * @param source the buffer holding the bytes
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the view, with position 0 and limit length
+     */
+    private static ByteBuffer region(ByteBuffer source, int offset,
+            int length) {
+        ByteBuffer view = source.duplicate();
+        view.limit(offset + length);
+        view.position(offset);
+        return view.slice();
+    }
+
+    /**
+     * Replaces the buffer with a new, native-order direct buffer.
+     *
+     * @param capacity the number of record slots, a power of two
+     */
+    private void allocate(int capacity) {
+        buffer = ByteBuffer.allocateDirect(capacity * recordSize)
+                .order(ByteOrder.nativeOrder());
+        mask = capacity - 1;
+    }
+
+    /**
+     * Returns the number of bytes each record takes.
+     *
+     * @return the record size
+     */
+    public int recordSize() {
+        return recordSize;
+    }
+
+    /**
+     * Returns the number of record slots in the buffer.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns whether the deque holds no records.
+     *
+     * @return true if the deque is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of records in the deque.
+     *
+     * @return the size of the deque
+     */
+    public int size() {
+        return size;
+    }
+}
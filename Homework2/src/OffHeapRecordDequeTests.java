@@ -0,0 +1,137 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for OffHeapRecordDeque, using 24-byte records that hold a value,
+ * twice the value and three times the value.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class OffHeapRecordDequeTests {
+
+    private static final RecordCodec<Long> CODEC = new RecordCodec<Long>() {
+        @Override
+        public int recordSize() {
+            return 24;
+        }
+
+        @Override
+        public void encode(Long value, ByteBuffer target, int offset) {
+            target.putLong(offset, value);
+            target.putLong(offset + 8, value * 2);
+            target.putLong(offset + 16, value * 3);
+        }
+
+        @Override
+        public Long decode(ByteBuffer source, int offset) {
+            return source.getLong(offset);
+        }
+    };
+
+    private OffHeapRecordDeque<Long> deque;
+
+    public static final int TIMEOUT = 2000;
+
+    @Before
+    public void setup() {
+        deque = new OffHeapRecordDeque<>(CODEC);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddRemoveAtBothEnds() {
+        deque.addLast(2L);
+        deque.addFirst(1L);
+        deque.addLast(3L);
+        assertEquals(3, deque.size());
+        assertEquals((Long) 2L, deque.get(1));
+        assertEquals((Long) 1L, deque.removeFirst());
+        assertEquals((Long) 3L, deque.removeLast());
+        deque.dropFirst();
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGrowKeepsWrappedOrder() {
+        int initial = OffHeapRecordDeque.INITIAL_CAPACITY;
+        for (long i = 0; i < initial / 2; i++) {
+            deque.addLast(i);
+        }
+        for (long i = 1; i <= initial * 2; i++) {
+            deque.addFirst(-i);
+        }
+        assertEquals(initial * 4, deque.capacity());
+        for (long i = initial * 2; i >= 1; i--) {
+            assertEquals((Long) (-i), deque.removeFirst());
+        }
+        for (long i = 0; i < initial / 2; i++) {
+            assertEquals((Long) i, deque.removeFirst());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSliceIsZeroCopyView() {
+        deque.addLast(5L);
+        deque.addLast(7L);
+        ByteBuffer slice = deque.slice(1);
+        assertTrue(slice.isReadOnly());
+        assertTrue(slice.isDirect());
+        assertEquals(24, slice.remaining());
+        assertEquals(7L, slice.getLong(0));
+        assertEquals(14L, slice.getLong(8));
+        assertEquals(21L, slice.getLong(16));
+        assertEquals((Long) 7L, CODEC.decode(slice, 0));
+    }
+
+    @Test(timeout = TIMEOUT, expected = ReadOnlyBufferException.class)
+    public void testSliceCannotWrite() {
+        deque.addLast(5L);
+        deque.slice(0).putLong(0, 1L);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMatchesJavaDequeUnderRandomOperations() {
+        java.util.ArrayDeque<Long> expected = new java.util.ArrayDeque<>();
+        Random random = new Random(1332);
+        for (long i = 0; i < 20000; i++) {
+            int op = random.nextInt(4);
+            if (op == 0) {
+                expected.addFirst(i);
+                deque.addFirst(i);
+            } else if (op == 1) {
+                expected.addLast(i);
+                deque.addLast(i);
+            } else if (!expected.isEmpty()) {
+                if (op == 2) {
+                    assertEquals(expected.removeFirst(), deque.removeFirst());
+                } else {
+                    assertEquals(expected.removeLast(), deque.removeLast());
+                }
+            }
+            assertEquals(expected.size(), deque.size());
+        }
+        int index = 0;
+        for (Long value : expected) {
+            assertEquals(value, deque.get(index++));
+        }
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveFromEmpty() {
+        deque.removeLast();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testSliceOutOfBounds() {
+        deque.addLast(1L);
+        deque.slice(1);
+    }
+}
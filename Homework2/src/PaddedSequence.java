@@ -0,0 +1,93 @@
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * A long counter that sits alone on its cache line. Seven longs of padding
+ * on each side keep neighbouring hot fields (for example the other end of
+ * a ring buffer) off the 64-byte line that holds the value, so threads
+ * updating different counters do not invalidate each other's caches.
+ *
+ * It works like an AtomicLong, which cannot be padded on both sides, and
+ * only uses the Java 8 atomics: the ordered store is
+ * {@link #lazySet(long)} and the CAS goes through an
+ * AtomicLongFieldUpdater.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class PaddedSequence {
+    private static final AtomicLongFieldUpdater<PaddedSequence> VALUE =
+            AtomicLongFieldUpdater.newUpdater(PaddedSequence.class, "value");
+
+    // padding before the value; never read
+    private long p01;
+    private long p02;
+    private long p03;
+    private long p04;
+    private long p05;
+    private long p06;
+    private long p07;
+
+    private volatile long value;
+
+    // padding after the value; never read
+    private long p11;
+    private long p12;
+    private long p13;
+    private long p14;
+    private long p15;
+    private long p16;
+    private long p17;
+
+    /**
+     * Creates a new PaddedSequence holding the given value.
+     *
+     * @param initial the initial value
+     */
+    public PaddedSequence(long initial) {
+        value = initial;
+    }
+
+    /**
+     * Reads the value with volatile semantics.
+     *
+     * @return the current value
+     */
+    public long get() {
+        return value;
+    }
+
+    /**
+     * Writes the value with volatile semantics, so later volatile reads by
+     * this thread cannot be reordered before the write.
+     *
+     * @param newValue the new value
+     */
+    public void set(long newValue) {
+        value = newValue;
+    }
+
+    /**
+     * Writes the value with an ordered ("lazy") store. Cheaper than a
+     * volatile write, since it does not wait for the store to become
+     * visible, and enough to publish everything written before it to a
+     * thread that later reads the value.
+     *
+     * @param newValue the new value
+     */
+    public void lazySet(long newValue) {
+        VALUE.lazySet(this, newValue);
+    }
+
+    /**
+     * Atomically sets the value to update if it currently equals expect.
+     *
+     * @param expect the expected value
+     * @param update the new value
+     * @return true if the value was updated
+     */
+    public boolean compareAndSet(long expect, long update) {
+        return VALUE.compareAndSet(this, expect, update);
+    }
+}
@@ -0,0 +1,124 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for IntArrayDeque and LongArrayDeque.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class PrimitiveDequeTests {
+
+    private IntArrayDeque ints;
+    private LongArrayDeque longs;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setup() {
+        ints = new IntArrayDeque();
+        longs = new LongArrayDeque();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIntBothEndsAcrossRegrow() {
+        for (int i = 0; i < 20; i++) {
+            ints.addLast(i);
+            ints.addFirst(-i - 1);
+        }
+        assertEquals(40, ints.size());
+        assertEquals(64, ints.getBackingArray().length);
+        for (int i = 19; i >= 0; i--) {
+            assertEquals(-i - 1, ints.removeFirst());
+        }
+        for (int i = 19; i >= 0; i--) {
+            assertEquals(i, ints.removeLast());
+        }
+        assertTrue(ints.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIntAddAllAndDrainWrapAround() {
+        for (int i = 0; i < 12; i++) {
+            ints.addLast(i);
+        }
+        int[] dest = new int[16];
+        assertEquals(10, ints.drainTo(dest, 10));
+        // front is now at index 10, so this batch wraps
+        ints.addAll(new int[] {12, 13, 14, 15, 16, 17, 18, 19});
+        assertEquals(16, ints.getBackingArray().length);
+        assertEquals(10, ints.size());
+
+        assertEquals(10, ints.drainTo(dest, 100));
+        int[] expected = {10, 11, 12, 13, 14, 15, 16, 17, 18, 19};
+        int[] drained = new int[10];
+        System.arraycopy(dest, 0, drained, 0, 10);
+        assertArrayEquals(expected, drained);
+        assertEquals(0, ints.drainTo(dest, 5));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIntAddAllGrows() {
+        ints.addFirst(-1);
+        int[] values = new int[40];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        ints.addAll(values);
+        assertEquals(64, ints.getBackingArray().length);
+        assertEquals(-1, ints.removeFirst());
+        assertEquals(39, ints.removeLast());
+        assertEquals(0, ints.removeFirst());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testIntRemoveFromEmpty() {
+        ints.removeLast();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGetFirstAndLastAcrossWrap() {
+        for (int i = 0; i < 20; i++) {
+            ints.addFirst(i);
+            longs.addLast(i);
+        }
+        assertEquals(19, ints.getFirst());
+        assertEquals(0, ints.getLast());
+        assertEquals(0L, longs.getFirst());
+        assertEquals(19L, longs.getLast());
+        ints.removeFirst();
+        longs.removeLast();
+        assertEquals(18, ints.getFirst());
+        assertEquals(18L, longs.getLast());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testIntEnsureCapacityBeyondMax() {
+        ints.ensureCapacity(IntArrayDeque.MAX_CAPACITY + 1);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testLongEnsureCapacityBeyondMax() {
+        longs.ensureCapacity(Integer.MAX_VALUE);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLongDeque() {
+        long big = 1L << 50;
+        longs.addAll(new long[] {big, big + 1, big + 2});
+        longs.addFirst(big - 1);
+        assertEquals(big - 1, longs.removeFirst());
+        assertEquals(big + 2, longs.removeLast());
+        long[] dest = new long[4];
+        assertEquals(2, longs.drainTo(dest, 4));
+        assertEquals(big, dest[0]);
+        assertEquals(big + 1, dest[1]);
+        assertTrue(longs.isEmpty());
+    }
+}
@@ -0,0 +1,43 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Converts values to and from fixed-width binary records, for the deques
+ * that store records in a ByteBuffer instead of as objects.
+ *
+ * Implementations must only use the absolute get and put methods of the
+ * buffer, so its position and limit are left alone, and must stay within
+ * the {@link #recordSize()} bytes starting at the given offset.
+ *
+ * @param <T> the type of the values
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public interface RecordCodec<T> {
+
+    /**
+     * Returns the number of bytes every record takes.
+     *
+     * @return the record size, at least 1
+     */
+    int recordSize();
+
+    /**
+     * Writes the value as a record.
+     *
+     * @param value the value to write, never null
+     * @param target the buffer to write to
+     * @param offset the index of the first byte of the record
+     */
+    void encode(T value, ByteBuffer target, int offset);
+
+    /**
+     * Reads the value stored in a record.
+     *
+     * @param source the buffer to read from
+     * @param offset the index of the first byte of the record
+     * @return the decoded value
+     */
+    T decode(ByteBuffer source, int offset);
+}
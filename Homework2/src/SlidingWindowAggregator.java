@@ -0,0 +1,207 @@
+import java.util.NoSuchElementException;
+import java.util.function.BinaryOperator;
+
+/**
+ * Rolling aggregate of any associative operation over the most recent
+ * events of a stream, such as a product, a gcd, or a min over a custom
+ * order. The operation does not need an inverse, so values cannot simply
+ * be subtracted on eviction; instead the window is kept as two stacks, each
+ * a power-of-two ArrayDeque.
+ *
+ * New events go onto the back stack, which tracks the aggregate of all its
+ * values. Events are evicted from the top of the front stack, where every
+ * entry stores the aggregate of itself and all newer front entries. When
+ * the front stack runs empty, the back stack is flipped onto it, computing
+ * those aggregates once. Each event is thus combined a constant number of
+ * times, so updates are amortized O(1) and the window aggregate, the
+ * combination of the front top and the back aggregate, is O(1).
+ *
+ * Values are combined oldest first, so the operation need not be
+ * commutative. The window is either the last {@code count} events or the
+ * events whose timestamps lie in {@code (now - span, now]}.
+ *
+ * @param <T> the type of the values
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class SlidingWindowAggregator<T> {
+    private final boolean byTime;
+    private final long extent;
+    private final BinaryOperator<T> operator;
+    private final ArrayDeque<WindowEntry<T>> front = new ArrayDeque<>(true);
+    private final ArrayDeque<WindowEntry<T>> back = new ArrayDeque<>(true);
+    private T backAggregate;
+    private long latest = Long.MIN_VALUE;
+
+    /**
+     * Constructs a new, empty SlidingWindowAggregator.
+     *
+     * @param byTime true for a time window, false for a count window
+     * @param extent the span of a time window or the count of a count window
+     * @param operator the associative operation
+     */
+    private SlidingWindowAggregator(boolean byTime, long extent,
+            BinaryOperator<T> operator) {
+        if (operator == null) {
+            throw new IllegalArgumentException("operator cannot be null");
+        }
+        this.byTime = byTime;
+        this.extent = extent;
+        this.operator = operator;
+    }
+
+    /**
+     * Creates an aggregator over the last {@code count} events.
+     *
+     * @param count the number of events in the window
+     * @param operator the associative operation
+     * @param <T> the type of the values
+     * @return the new, empty aggregator
+     * @throws java.lang.IllegalArgumentException if count is not positive
+     * or operator is null
+     */
+    public static <T> SlidingWindowAggregator<T> byCount(int count,
+            BinaryOperator<T> operator) {
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be positive");
+        }
+        return new SlidingWindowAggregator<>(false, count, operator);
+    }
+
+    /**
+     * Creates an aggregator over the events of the last {@code span} time
+     * units.
+     *
+     * @param span the length of the window, in timestamp units
+     * @param operator the associative operation
+     * @param <T> the type of the values
+     * @return the new, empty aggregator
+     * @throws java.lang.IllegalArgumentException if span is not positive or
+     * operator is null
+     */
+    public static <T> SlidingWindowAggregator<T> byTime(long span,
+            BinaryOperator<T> operator) {
+        if (span < 1) {
+            throw new IllegalArgumentException("span must be positive");
+        }
+        return new SlidingWindowAggregator<>(true, span, operator);
+    }
+
+    /**
+     * Adds an event with the latest timestamp seen so far, or 0 for the
+     * first event. Meant for count windows.
+     *
+     * This method runs in amortized O(1) time.
+     *
+     * @param value the value of the event
+     * @throws java.lang.IllegalArgumentException if value is null
+     */
+    public void add(T value) {
+        add(latest == Long.MIN_VALUE ? 0 : latest, value);
+    }
+
+    /**
+     * Adds an event and evicts the events that fall out of the window.
+     *
+     * This method runs in amortized O(1) time.
+     *
+     * @param timestamp the timestamp of the event, not before the latest
+     * one seen
+     * @param value the value of the event
+     * @throws java.lang.IllegalArgumentException if timestamp goes back in
+     * time or value is null
+     */
+    public void add(long timestamp, T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value cannot be null");
+        }
+        advanceTo(timestamp);
+        back.addLast(new WindowEntry<>(timestamp, value));
+        backAggregate = back.size() == 1 ? value
+                : operator.apply(backAggregate, value);
+        if (!byTime && size() > extent) {
+            evictOldest();
+        }
+    }
+
+    /**
+     * Moves the clock forward and evicts the events that fall out of a
+     * time window. Has no other effect on a count window.
+     *
+     * This method runs in amortized O(1) time.
+     *
+     * @param now the new latest timestamp, not before the current one
+     * @throws java.lang.IllegalArgumentException if now goes back in time
+     */
+    public void advanceTo(long now) {
+        if (now < latest) {
+            throw new IllegalArgumentException(
+                    "timestamps cannot go back in time");
+        }
+        latest = now;
+        if (byTime) {
+            while (size() > 0 && now - oldest().getTimestamp() >= extent) {
+                evictOldest();
+            }
+        }
+    }
+
+    /**
+     * Returns the aggregate of the values in the window, combined oldest
+     * first.
+     *
+     * This method runs in O(1) time.
+     *
+     * @return the aggregate
+     * @throws java.util.NoSuchElementException if the window is empty
+     */
+    public T aggregate() {
+        if (front.size() == 0) {
+            if (back.size() == 0) {
+                throw new NoSuchElementException("the window is empty");
+            }
+            return backAggregate;
+        }
+        T frontAggregate = front.getLast().getAggregate();
+        return back.size() == 0 ? frontAggregate
+                : operator.apply(frontAggregate, backAggregate);
+    }
+
+    /**
+     * Returns the number of events in the window.
+     *
+     * @return the size of the window
+     */
+    public int size() {
+        return front.size() + back.size();
+    }
+
+    /**
+     * Returns the oldest event in the window.
+     *
+     * @return the oldest entry
+     */
+    private WindowEntry<T> oldest() {
+        return front.size() > 0 ? front.getLast() : back.getFirst();
+    }
+
+    /**
+     * Removes the oldest event, first flipping the back stack onto the
+     * front stack if the front stack is empty.
+     */
+    private void evictOldest() {
+        if (front.size() == 0) {
+            while (back.size() > 0) {
+                WindowEntry<T> entry = back.removeLast();
+                entry.setAggregate(front.size() == 0 ? entry.getValue()
+                        : operator.apply(entry.getValue(),
+                                front.getLast().getAggregate()));
+                front.addLast(entry);
+            }
+            backAggregate = null;
+        }
+        front.removeLast();
+    }
+}
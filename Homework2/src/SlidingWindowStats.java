@@ -0,0 +1,334 @@
+import java.util.NoSuchElementException;
+
+/**
+ * Rolling min, max, sum and mean over the most recent events of a stream
+ * of doubles. The window is either the last {@code count} events or the
+ * events whose timestamps lie in {@code (now - span, now]}, where now is
+ * the latest timestamp seen.
+ *
+ * Events are numbered in arrival order, and event {@code i} sits in slot
+ * {@code i & (capacity - 1)} of a pair of primitive ring arrays, one for
+ * timestamps and one for values, that double like IntArrayDeque when the
+ * window outgrows them. Min and max each keep a monotonic LongArrayDeque
+ * of candidate event numbers: a new event first removes every candidate
+ * at the back that it beats, so the front of the deque is always the
+ * answer, and an evicted event leaves the candidates only if it is their
+ * front. Every event enters and leaves each deque at most once, so all
+ * updates are amortized O(1), all queries O(1), and once the rings have
+ * grown to the window's size no event allocates anything.
+ *
+ * The sum is updated by adding new and subtracting evicted values, with
+ * Kahan compensation against drift, and is reset to 0 whenever the window
+ * empties. Only finite values are accepted. The sum is recomputed from the
+ * window when it overflows, and when an evicted value dwarfs everything
+ * left in the window, since subtracting it would wipe out the precision of
+ * the rest. The second case needs the window's magnitudes to drop by a
+ * factor of {@code 2^26} each time, so it is rare and stays amortized
+ * O(1).
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class SlidingWindowStats {
+
+    /**
+     * The initial capacity of the event rings.
+     */
+    public static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The largest number of events a window can hold.
+     */
+    public static final int MAX_CAPACITY = 1 << 30;
+
+    private static final double DOMINANCE = 0x1p26;
+
+    private final boolean byTime;
+    private final long extent;
+    private long[] timestamps;
+    private double[] values;
+    private long first;
+    private long next;
+    private final LongArrayDeque minimums = new LongArrayDeque();
+    private final LongArrayDeque maximums = new LongArrayDeque();
+    private long latest = Long.MIN_VALUE;
+    private double sum;
+    private double compensation;
+
+    /**
+     * Constructs a new, empty SlidingWindowStats.
+     *
+     * @param byTime true for a time window, false for a count window
+     * @param extent the span of a time window or the count of a count window
+     */
+    private SlidingWindowStats(boolean byTime, long extent) {
+        this.byTime = byTime;
+        this.extent = extent;
+        int capacity = byTime ? INITIAL_CAPACITY
+                : (int) Math.min(INITIAL_CAPACITY, extent);
+        timestamps = new long[capacity];
+        values = new double[capacity];
+    }
+
+    /**
+     * Creates stats over the last {@code count} events.
+     *
+     * @param count the number of events in the window
+     * @return the new, empty stats
+     * @throws java.lang.IllegalArgumentException if count is not positive
+     */
+    public static SlidingWindowStats byCount(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be positive");
+        }
+        return new SlidingWindowStats(false, count);
+    }
+
+    /**
+     * Creates stats over the events of the last {@code span} time units.
+     *
+     * @param span the length of the window, in timestamp units
+     * @return the new, empty stats
+     * @throws java.lang.IllegalArgumentException if span is not positive
+     */
+    public static SlidingWindowStats byTime(long span) {
+        if (span < 1) {
+            throw new IllegalArgumentException("span must be positive");
+        }
+        return new SlidingWindowStats(true, span);
+    }
+
+    /**
+     * Adds an event with the latest timestamp seen so far, or 0 for the
+     * first event. Meant for count windows.
+     *
+     * This method runs in amortized O(1) time.
+     *
+     * @param value the value of the event
+     * @throws java.lang.IllegalArgumentException if value is NaN or
+     * infinite
+     * @throws java.lang.IllegalStateException if the window would hold more
+     * than {@code MAX_CAPACITY} events
+     */
+    public void add(double value) {
+        add(latest == Long.MIN_VALUE ? 0 : latest, value);
+    }
+
+    /**
+     * Adds an event and evicts the events that fall out of the window.
+     *
+     * This method runs in amortized O(1) time.
+     *
+     * @param timestamp the timestamp of the event, not before the latest
+     * one seen
+     * @param value the value of the event
+     * @throws java.lang.IllegalArgumentException if timestamp goes back in
+     * time, or value is NaN or infinite
+     * @throws java.lang.IllegalStateException if the window would hold more
+     * than {@code MAX_CAPACITY} events
+     */
+    public void add(long timestamp, double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("value must be finite");
+        }
+        advanceTo(timestamp);
+        if (!byTime && size() == extent) {
+            evictOldest();
+        }
+        if (size() == values.length) {
+            grow();
+        }
+        long event = next++;
+        timestamps[slot(event)] = timestamp;
+        values[slot(event)] = value;
+        accumulate(value);
+        while (!minimums.isEmpty()
+                && values[slot(minimums.getLast())] > value) {
+            minimums.removeLast();
+        }
+        minimums.addLast(event);
+        while (!maximums.isEmpty()
+                && values[slot(maximums.getLast())] < value) {
+            maximums.removeLast();
+        }
+        maximums.addLast(event);
+    }
+
+    /**
+     * Moves the clock forward and evicts the events that fall out of a
+     * time window. Has no other effect on a count window.
+     *
+     * This method runs in amortized O(1) time.
+     *
+     * @param now the new latest timestamp, not before the current one
+     * @throws java.lang.IllegalArgumentException if now goes back in time
+     */
+    public void advanceTo(long now) {
+        if (now < latest) {
+            throw new IllegalArgumentException(
+                    "timestamps cannot go back in time");
+        }
+        latest = now;
+        if (byTime) {
+            while (size() > 0 && now - timestamps[slot(first)] >= extent) {
+                evictOldest();
+            }
+        }
+    }
+
+    /**
+     * Returns the smallest value in the window.
+     *
+     * This method runs in O(1) time.
+     *
+     * @return the minimum
+     * @throws java.util.NoSuchElementException if the window is empty
+     */
+    public double min() {
+        return values[slot(minimums.getFirst())];
+    }
+
+    /**
+     * Returns the largest value in the window.
+     *
+     * This method runs in O(1) time.
+     *
+     * @return the maximum
+     * @throws java.util.NoSuchElementException if the window is empty
+     */
+    public double max() {
+        return values[slot(maximums.getFirst())];
+    }
+
+    /**
+     * Returns the sum of the values in the window.
+     *
+     * This method runs in O(1) time.
+     *
+     * @return the sum, 0 if the window is empty
+     */
+    public double sum() {
+        return sum;
+    }
+
+    /**
+     * Returns the mean of the values in the window.
+     *
+     * This method runs in O(1) time.
+     *
+     * @return the mean
+     * @throws java.util.NoSuchElementException if the window is empty
+     */
+    public double mean() {
+        if (size() == 0) {
+            throw new NoSuchElementException("the window is empty");
+        }
+        return sum / size();
+    }
+
+    /**
+     * Returns the number of events in the window.
+     *
+     * @return the size of the window
+     */
+    public int size() {
+        return (int) (next - first);
+    }
+
+    /**
+     * Removes the oldest event from the window and from the front of the
+     * candidate deques it heads, and takes its value off the sum.
+     */
+    private void evictOldest() {
+        long oldest = first++;
+        double value = values[slot(oldest)];
+        if (minimums.getFirst() == oldest) {
+            minimums.removeFirst();
+        }
+        if (maximums.getFirst() == oldest) {
+            maximums.removeFirst();
+        }
+        if (size() == 0) {
+            sum = 0;
+            compensation = 0;
+        } else {
+            accumulate(-value);
+            double largest = Math.max(Math.abs(min()), Math.abs(max()));
+            if (Math.abs(value) > DOMINANCE * largest) {
+                resum();
+            }
+        }
+    }
+
+    /**
+     * Adds a term to the sum with Kahan compensation. If the sum overflows,
+     * the compensation would turn every later sum into NaN, so the sum is
+     * recomputed from the window instead.
+     *
+     * @param term the value to add, negative to subtract
+     */
+    private void accumulate(double term) {
+        double corrected = term - compensation;
+        double total = sum + corrected;
+        compensation = (total - sum) - corrected;
+        sum = total;
+        if (Double.isInfinite(sum) || Double.isNaN(compensation)
+                || Double.isInfinite(compensation)) {
+            resum();
+        }
+    }
+
+    /**
+     * Recomputes the sum of the window with Kahan compensation. While the
+     * exact sum is beyond the range of a double, the sum is infinite and
+     * the compensation 0, and every update recomputes it, in O(n).
+     */
+    private void resum() {
+        sum = 0;
+        compensation = 0;
+        for (long event = first; event < next; event++) {
+            double corrected = values[slot(event)] - compensation;
+            double total = sum + corrected;
+            compensation = (total - sum) - corrected;
+            sum = total;
+        }
+        if (Double.isInfinite(sum)) {
+            compensation = 0;
+        }
+    }
+
+    /**
+     * Doubles the event rings. Each event keeps its number, so it moves to
+     * the slot its number selects in the larger rings.
+     *
+     * @throws java.lang.IllegalStateException if the rings already have
+     * {@code MAX_CAPACITY} slots
+     */
+    private void grow() {
+        if (values.length == MAX_CAPACITY) {
+            throw new IllegalStateException(
+                    "the window cannot hold more than 2^30 events");
+        }
+        long[] oldTimestamps = timestamps;
+        double[] oldValues = values;
+        int oldMask = oldValues.length - 1;
+        timestamps = new long[oldValues.length * 2];
+        values = new double[oldValues.length * 2];
+        for (long event = first; event < next; event++) {
+            timestamps[slot(event)] = oldTimestamps[(int) event & oldMask];
+            values[slot(event)] = oldValues[(int) event & oldMask];
+        }
+    }
+
+    /**
+     * Returns the ring slot of an event.
+     *
+     * @param event the number of the event
+     * @return its index in the ring arrays
+     */
+    private int slot(long event) {
+        return (int) event & (values.length - 1);
+    }
+}
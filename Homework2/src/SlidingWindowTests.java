@@ -0,0 +1,202 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for SlidingWindowStats and SlidingWindowAggregator against a
+ * window rescanned from scratch after every event.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class SlidingWindowTests {
+
+    public static final int TIMEOUT = 5000;
+
+    private static final double DELTA = 1e-9;
+
+    @Test(timeout = TIMEOUT)
+    public void testStatsByCountMatchesRescan() {
+        SlidingWindowStats stats = SlidingWindowStats.byCount(50);
+        List<Double> values = new ArrayList<>();
+        Random random = new Random(1332);
+        for (int i = 0; i < 5000; i++) {
+            double value = random.nextInt(1000) - 500;
+            stats.add(value);
+            values.add(value);
+            List<Double> window = values.subList(
+                    Math.max(0, values.size() - 50), values.size());
+            assertWindow(window, stats);
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testStatsByTimeMatchesRescan() {
+        SlidingWindowStats stats = SlidingWindowStats.byTime(100);
+        List<long[]> events = new ArrayList<>();
+        Random random = new Random(1332);
+        long now = 0;
+        for (int i = 0; i < 5000; i++) {
+            now += random.nextInt(20);
+            long value = random.nextInt(1000);
+            stats.add(now, value);
+            events.add(new long[] {now, value});
+            List<Double> window = new ArrayList<>();
+            for (long[] event : events) {
+                if (now - event[0] < 100) {
+                    window.add((double) event[1]);
+                }
+            }
+            assertWindow(window, stats);
+        }
+        stats.advanceTo(now + 100);
+        assertEquals(0, stats.size());
+        assertEquals(0.0, stats.sum(), 0.0);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAggregatorKeepsOrderOfNonCommutativeOperation() {
+        SlidingWindowAggregator<String> concat =
+                SlidingWindowAggregator.byCount(4, String::concat);
+        StringBuilder all = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            String letter = String.valueOf((char) ('a' + i % 26));
+            concat.add(letter);
+            all.append(letter);
+            String expected = all.substring(Math.max(0, all.length() - 4));
+            assertEquals(expected, concat.aggregate());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAggregatorByTimeMatchesRescan() {
+        SlidingWindowAggregator<Long> max =
+                SlidingWindowAggregator.byTime(30, Math::max);
+        List<long[]> events = new ArrayList<>();
+        Random random = new Random(1332);
+        long now = 0;
+        for (int i = 0; i < 3000; i++) {
+            now += random.nextInt(5);
+            long value = random.nextInt(10000);
+            max.add(now, value);
+            events.add(new long[] {now, value});
+            long expected = Long.MIN_VALUE;
+            int count = 0;
+            for (long[] event : events) {
+                if (now - event[0] < 30) {
+                    expected = Math.max(expected, event[1]);
+                    count++;
+                }
+            }
+            assertEquals(count, max.size());
+            assertEquals((Long) expected, max.aggregate());
+        }
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testEmptyAggregate() {
+        SlidingWindowAggregator<Long> sum =
+                SlidingWindowAggregator.byTime(10, Long::sum);
+        sum.add(0, 5L);
+        sum.advanceTo(10);
+        sum.aggregate();
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testEmptyMin() {
+        SlidingWindowStats.byCount(3).min();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testStatsRejectNonFiniteValues() {
+        SlidingWindowStats stats = SlidingWindowStats.byCount(3);
+        stats.add(1.0);
+        for (double bad : new double[] {Double.POSITIVE_INFINITY,
+            Double.NEGATIVE_INFINITY, Double.NaN}) {
+            try {
+                stats.add(bad);
+                fail();
+            } catch (IllegalArgumentException e) {
+                assertEquals(1, stats.size());
+            }
+        }
+        stats.add(2.0);
+        assertEquals(3.0, stats.sum(), 0.0);
+        assertEquals(1.5, stats.mean(), 0.0);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testStatsSumRecoversFromOverflowAndHugeValues() {
+        SlidingWindowStats stats = SlidingWindowStats.byCount(2);
+        stats.add(Double.MAX_VALUE);
+        stats.add(Double.MAX_VALUE);
+        assertEquals(Double.POSITIVE_INFINITY, stats.sum(), 0.0);
+        stats.add(1.0);
+        assertEquals(Double.MAX_VALUE, stats.sum(), 0.0);
+        stats.add(2.0);
+        assertEquals(3.0, stats.sum(), 0.0);
+        assertEquals(1.5, stats.mean(), 0.0);
+
+        stats.add(1e300);
+        stats.add(-1e300);
+        assertEquals(0.0, stats.sum(), 0.0);
+        stats.add(5.0);
+        stats.add(7.0);
+        assertEquals(12.0, stats.sum(), 0.0);
+        assertEquals(5.0, stats.min(), 0.0);
+        assertEquals(7.0, stats.max(), 0.0);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testStatsByTimeGrowsAcrossWrappedRing() {
+        SlidingWindowStats stats = SlidingWindowStats.byTime(1000);
+        for (int i = 0; i < 10; i++) {
+            stats.add(i, i);
+        }
+        stats.advanceTo(1005);
+        assertEquals(4, stats.size());
+        for (int i = 0; i < 100; i++) {
+            stats.add(1005, 100 + i);
+        }
+        assertEquals(104, stats.size());
+        assertEquals(6.0, stats.min(), 0.0);
+        assertEquals(199.0, stats.max(), 0.0);
+        assertEquals(6 + 7 + 8 + 9 + 100 * 100 + 4950, stats.sum(), 0.0);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testTimeCannotGoBack() {
+        SlidingWindowStats stats = SlidingWindowStats.byTime(10);
+        stats.add(5, 1.0);
+        stats.add(4, 1.0);
+    }
+
+    /**
+     * Checks the stats against a rescan of the window.
+     *
+     * @param window the values that should be in the window
+     * @param stats the stats under test
+     */
+    private static void assertWindow(List<Double> window,
+            SlidingWindowStats stats) {
+        assertEquals(window.size(), stats.size());
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        double sum = 0;
+        for (double value : window) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            sum += value;
+        }
+        assertEquals(min, stats.min(), 0.0);
+        assertEquals(max, stats.max(), 0.0);
+        assertEquals(sum, stats.sum(), DELTA);
+        assertEquals(sum / window.size(), stats.mean(), DELTA);
+    }
+}
@@ -0,0 +1,244 @@
+import java.io.IOException;
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Segment class used by SpillingRecordDeque. A segment is a small circular
+ * buffer of fixed-width records. While resident its records live in a heap
+ * ByteBuffer in native byte order, as in OffHeapRecordDeque; once spilled
+ * they live, in order, in a file written and read with plain FileChannel
+ * calls, and the buffer is dropped. No mapping outlives a call, so the file
+ * can be deleted as soon as it is read back.
+ *
+ * The add and remove methods only do the bookkeeping and return the byte
+ * offset of the record concerned; the deque encodes or decodes it through
+ * {@link #getBuffer()}.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class SpillSegment {
+    private final int capacity;
+    private final int recordSize;
+    private ByteBuffer buffer;
+    private int front;
+    private int count;
+    private Path file;
+
+    /**
+     * Creates a new, empty, resident segment.
+     *
+     * @param capacity the number of records the segment holds
+     * @param recordSize the number of bytes per record
+     */
+    public SpillSegment(int capacity, int recordSize) {
+        this.capacity = capacity;
+        this.recordSize = recordSize;
+        this.buffer = newBuffer();
+    }
+
+    /**
+     * Allocates a buffer for every slot of the segment.
+     *
+     * @return the buffer, in native byte order
+     */
+    private ByteBuffer newBuffer() {
+        return ByteBuffer.allocate(capacity * recordSize)
+                .order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Makes room for a record before the first one.
+     *
+     * @return the offset to encode the new record at
+     */
+    public int addFirst() {
+        front = front == 0 ? capacity - 1 : front - 1;
+        count++;
+        return front * recordSize;
+    }
+
+    /**
+     * Makes room for a record after the last one.
+     *
+     * @return the offset to encode the new record at
+     */
+    public int addLast() {
+        int offset = slot(count) * recordSize;
+        count++;
+        return offset;
+    }
+
+    /**
+     * Removes the first record. Its bytes stay readable until the next add.
+     *
+     * @return the offset of the removed record
+     */
+    public int removeFirst() {
+        int offset = front * recordSize;
+        front = slot(1);
+        count--;
+        return offset;
+    }
+
+    /**
+     * Removes the last record. Its bytes stay readable until the next add.
+     *
+     * @return the offset of the removed record
+     */
+    public int removeLast() {
+        count--;
+        return slot(count) * recordSize;
+    }
+
+    /**
+     * Writes the records, in order, to a file and drops the in-memory
+     * buffer.
+     *
+     * @param target the file to write, created if it does not exist
+     * @return the number of bytes written
+     * @throws java.io.IOException if the file cannot be written
+     */
+    public long spill(Path target) throws IOException {
+        int bytes = count * recordSize;
+        try (FileChannel channel = FileChannel.open(target,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            int firstPart = Math.min(count, capacity - front) * recordSize;
+            writeFully(channel, region(buffer, front * recordSize,
+                    firstPart));
+            writeFully(channel, region(buffer, 0, bytes - firstPart));
+        }
+        buffer = null;
+        front = 0;
+        file = target;
+        return bytes;
+    }
+
+    /**
+     * Reads the records back from the spill file into a new in-memory
+     * buffer, then closes and deletes the file.
+     *
+     * @return the number of bytes read
+     * @throws java.io.IOException if the file cannot be read or deleted
+     */
+    public long reload() throws IOException {
+        int bytes = count * recordSize;
+        ByteBuffer loaded = newBuffer();
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.READ)) {
+            ByteBuffer target = region(loaded, 0, bytes);
+            while (target.hasRemaining()) {
+                if (channel.read(target) < 0) {
+                    throw new EOFException("spill file " + file
+                            + " is shorter than " + bytes + " bytes");
+                }
+            }
+        }
+        Files.delete(file);
+        buffer = loaded;
+        front = 0;
+        file = null;
+        return bytes;
+    }
+
+    /**
+     * Writes every remaining byte of the source to the channel.
+     *
+     * @param channel the channel to write to
+     * @param source the bytes to write
+     * @throws java.io.IOException if the channel cannot be written
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer source)
+            throws IOException {
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+
+    /**
+     * Returns a view of a range of bytes that shares the source's memory.
+     * It is cut from a duplicate, so the source's position and limit are
+     * left alone.
+     *
+     * @param source the buffer holding the bytes
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the view, with position 0 and limit length
+     */
+    private static ByteBuffer region(ByteBuffer source, int offset,
+            int length) {
+        ByteBuffer view = source.duplicate();
+        view.limit(offset + length);
+        view.position(offset);
+        return view.slice();
+    }
+
+    /**
+     * Deletes the spill file of a spilled segment, if there is one.
+     *
+     * @throws java.io.IOException if the file cannot be deleted
+     */
+    public void discard() throws IOException {
+        if (file != null) {
+            Files.deleteIfExists(file);
+            file = null;
+        }
+        buffer = null;
+        count = 0;
+    }
+
+    /**
+     * Wraps a position relative to the front record into a slot index.
+     *
+     * @param position the position, at most capacity
+     * @return the slot index
+     */
+    private int slot(int position) {
+        int index = front + position;
+        return index >= capacity ? index - capacity : index;
+    }
+
+    /**
+     * Gets the in-memory buffer holding the records.
+     *
+     * @return the buffer, null while the segment is spilled
+     */
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Returns whether the segment's records are on disk.
+     *
+     * @return true if spilled
+     */
+    public boolean isSpilled() {
+        return file != null;
+    }
+
+    /**
+     * Returns whether the segment holds no records.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns whether every slot of the segment is taken.
+     *
+     * @return true if full
+     */
+    public boolean isFull() {
+        return count == capacity;
+    }
+}
@@ -0,0 +1,423 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+/**
+ * An unbounded deque of fixed-width records that keeps its memory use
+ * bounded by spilling to disk. Records are stored in SpillSegments of
+ * {@code segmentRecords} records each: a head segment, a tail segment and,
+ * between them, a deque of full middle segments. Values are written and
+ * read through a RecordCodec.
+ *
+ * The head and tail segments, where all four operations happen, always
+ * stay in memory. When a full end segment moves into the middle and that
+ * puts the deque over its in-memory limit, the resident middle segment
+ * farthest from the end being pushed is written to a segment file in the
+ * spill directory. Resident middle segments therefore always sit next to
+ * the head or the tail, and a stack that keeps crossing a segment boundary
+ * at one end never spills or reloads the segments it is working on. When
+ * consumers reach a spilled segment, it becomes the new head (or tail) and
+ * is read back with one sequential read of its file, which is then
+ * deleted.
+ *
+ * I/O failures are rethrown as UncheckedIOExceptions. {@link #close()}
+ * deletes any spill files still on disk.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class SpillingRecordDeque<T> implements Closeable {
+
+    /**
+     * The default number of records per segment.
+     */
+    public static final int DEFAULT_SEGMENT_RECORDS = 4096;
+
+    private final RecordCodec<T> codec;
+    private final int segmentRecords;
+    private final int maxResidentSegments;
+    private final Path spillDirectory;
+    private final ArrayDeque<SpillSegment> middle = new ArrayDeque<>(true);
+    private SpillSegment head;
+    private SpillSegment tail;
+    private int residentSegments;
+    private int residentNearHead;
+    private int residentNearTail;
+    private long size;
+
+    private long spillCount;
+    private long spilledBytes;
+    private long spillNanos;
+    private long reloadCount;
+    private long reloadedBytes;
+    private long reloadNanos;
+
+    /**
+     * Constructs a new, empty SpillingRecordDeque with
+     * {@code DEFAULT_SEGMENT_RECORDS} records per segment.
+     *
+     * @param codec converts values to and from records
+     * @param maxInMemoryBytes the in-memory limit for segment buffers
+     * @param spillDirectory the existing directory for segment files
+     * @throws java.lang.IllegalArgumentException if an argument is null or
+     * invalid
+     */
+    public SpillingRecordDeque(RecordCodec<T> codec, long maxInMemoryBytes,
+            Path spillDirectory) {
+        this(codec, DEFAULT_SEGMENT_RECORDS, maxInMemoryBytes,
+                spillDirectory);
+    }
+
+    /**
+     * Constructs a new, empty SpillingRecordDeque. The head and tail
+     * segments are always resident, so at least two segments stay in memory
+     * whatever the limit.
+     *
+     * @param codec converts values to and from records
+     * @param segmentRecords the number of records per segment
+     * @param maxInMemoryBytes the in-memory limit for segment buffers
+     * @param spillDirectory the existing directory for segment files
+     * @throws java.lang.IllegalArgumentException if an argument is null or
+     * invalid
+     */
+    public SpillingRecordDeque(RecordCodec<T> codec, int segmentRecords,
+            long maxInMemoryBytes, Path spillDirectory) {
+        if (codec == null || spillDirectory == null) {
+            throw new IllegalArgumentException(
+                    "codec and spill directory cannot be null");
+        }
+        if (codec.recordSize() < 1 || segmentRecords < 1
+                || (long) segmentRecords * codec.recordSize()
+                > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "invalid record size or segment size");
+        }
+        if (!Files.isDirectory(spillDirectory)) {
+            throw new IllegalArgumentException(
+                    "spill directory must be an existing directory");
+        }
+        this.codec = codec;
+        this.segmentRecords = segmentRecords;
+        this.spillDirectory = spillDirectory;
+        long segmentBytes = (long) segmentRecords * codec.recordSize();
+        this.maxResidentSegments = (int) Math.min(Integer.MAX_VALUE,
+                Math.max(2, maxInMemoryBytes / segmentBytes));
+        head = newSegment();
+        tail = head;
+    }
+
+    /**
+     * Adds the value to the front of the deque.
+     *
+     * This method runs in amortized O(1) time, plus the time to spill a
+     * segment when the in-memory limit is reached.
+     *
+     * @param value the value to add
+     * @throws java.lang.IllegalArgumentException if value is null
+     * @throws java.io.UncheckedIOException if spilling fails
+     */
+    public void addFirst(T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value cannot be null");
+        }
+        if (head.isFull()) {
+            SpillSegment full = head;
+            head = newSegment();
+            if (full != tail) {
+                middle.addFirst(full);
+                residentNearHead++;
+                spillIfOverLimit(true);
+            }
+        }
+        codec.encode(value, head.getBuffer(), head.addFirst());
+        size++;
+    }
+
+    /**
+     * Adds the value to the back of the deque.
+     *
+     * This method runs in amortized O(1) time, plus the time to spill a
+     * segment when the in-memory limit is reached.
+     *
+     * @param value the value to add
+     * @throws java.lang.IllegalArgumentException if value is null
+     * @throws java.io.UncheckedIOException if spilling fails
+     */
+    public void addLast(T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value cannot be null");
+        }
+        if (tail.isFull()) {
+            SpillSegment full = tail;
+            tail = newSegment();
+            if (full != head) {
+                middle.addLast(full);
+                residentNearTail++;
+                spillIfOverLimit(false);
+            }
+        }
+        codec.encode(value, tail.getBuffer(), tail.addLast());
+        size++;
+    }
+
+    /**
+     * Removes the value at the front of the deque.
+     *
+     * This method runs in O(1) time, plus the time to reload a segment when
+     * the next one was spilled.
+     *
+     * @return the value formerly at the front
+     * @throws java.util.NoSuchElementException if the deque is empty
+     * @throws java.io.UncheckedIOException if reloading fails
+     */
+    public T removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("the deque is empty");
+        }
+        T value = codec.decode(head.getBuffer(), head.removeFirst());
+        size--;
+        if (head.isEmpty() && head != tail) {
+            residentSegments--;
+            head = middle.size() > 0 ? takeMiddle(true) : tail;
+        }
+        return value;
+    }
+
+    /**
+     * Removes the value at the back of the deque.
+     *
+     * This method runs in O(1) time, plus the time to reload a segment when
+     * the previous one was spilled.
+     *
+     * @return the value formerly at the back
+     * @throws java.util.NoSuchElementException if the deque is empty
+     * @throws java.io.UncheckedIOException if reloading fails
+     */
+    public T removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("the deque is empty");
+        }
+        T value = codec.decode(tail.getBuffer(), tail.removeLast());
+        size--;
+        if (tail.isEmpty() && tail != head) {
+            residentSegments--;
+            tail = middle.size() > 0 ? takeMiddle(false) : head;
+        }
+        return value;
+    }
+
+    /**
+     * Deletes every spill file still on disk and empties the deque.
+     *
+     * @throws java.io.IOException if a spill file cannot be deleted
+     */
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        while (middle.size() > 0) {
+            try {
+                middle.removeFirst().discard();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        head = newSegment();
+        tail = head;
+        residentSegments = 1;
+        residentNearHead = 0;
+        residentNearTail = 0;
+        size = 0;
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Creates a new resident segment.
+     *
+     * @return the segment
+     */
+    private SpillSegment newSegment() {
+        residentSegments++;
+        return new SpillSegment(segmentRecords, codec.recordSize());
+    }
+
+    /**
+     * Spills one resident middle segment if more segments are resident than
+     * the limit allows. The victim is the resident one farthest from the
+     * end being pushed: the innermost of those next to the other end if
+     * there are any, otherwise the innermost of those next to this end.
+     * Either way the resident middle segments stay contiguous with the head
+     * and the tail.
+     *
+     * @param pushedAtHead true if a segment was just retired from the head
+     * @throws java.io.UncheckedIOException if spilling fails
+     */
+    private void spillIfOverLimit(boolean pushedAtHead) {
+        if (residentSegments <= maxResidentSegments) {
+            return;
+        }
+        if (pushedAtHead ? residentNearTail > 0 : residentNearHead == 0) {
+            spill(middle.get(middle.size() - residentNearTail));
+            residentNearTail--;
+        } else {
+            spill(middle.get(residentNearHead - 1));
+            residentNearHead--;
+        }
+    }
+
+    /**
+     * Writes a resident middle segment to a new spill file.
+     *
+     * @param segment the segment to spill
+     * @throws java.io.UncheckedIOException if spilling fails
+     */
+    private void spill(SpillSegment segment) {
+        long start = System.nanoTime();
+        try {
+            spilledBytes += segment.spill(Files.createTempFile(
+                    spillDirectory, "segment", ".spill"));
+        } catch (IOException e) {
+            throw new UncheckedIOException("could not spill a segment", e);
+        }
+        spillNanos += System.nanoTime() - start;
+        spillCount++;
+        residentSegments--;
+    }
+
+    /**
+     * Removes the middle segment next to one end so it can become the new
+     * head or tail, reloading it if it was spilled.
+     *
+     * @param atHead true to take the segment next to the head
+     * @return the segment
+     * @throws java.io.UncheckedIOException if reloading fails
+     */
+    private SpillSegment takeMiddle(boolean atHead) {
+        SpillSegment segment = atHead ? middle.removeFirst()
+                : middle.removeLast();
+        if (!segment.isSpilled()) {
+            if (atHead ? residentNearHead > 0 : residentNearTail == 0) {
+                residentNearHead--;
+            } else {
+                residentNearTail--;
+            }
+        } else {
+            long start = System.nanoTime();
+            try {
+                reloadedBytes += segment.reload();
+            } catch (IOException e) {
+                throw new UncheckedIOException("could not reload a segment",
+                        e);
+            }
+            reloadNanos += System.nanoTime() - start;
+            reloadCount++;
+            residentSegments++;
+        }
+        return segment;
+    }
+
+    /**
+     * Returns the number of segments spilled to disk so far.
+     *
+     * @return the spill count
+     */
+    public long getSpillCount() {
+        return spillCount;
+    }
+
+    /**
+     * Returns the number of bytes spilled to disk so far.
+     *
+     * @return the spilled bytes
+     */
+    public long getSpilledBytes() {
+        return spilledBytes;
+    }
+
+    /**
+     * Returns the time spent spilling so far.
+     *
+     * @return the spill time in ns
+     */
+    public long getSpillNanos() {
+        return spillNanos;
+    }
+
+    /**
+     * Returns the number of segments reloaded from disk so far.
+     *
+     * @return the reload count
+     */
+    public long getReloadCount() {
+        return reloadCount;
+    }
+
+    /**
+     * Returns the number of bytes reloaded from disk so far.
+     *
+     * @return the reloaded bytes
+     */
+    public long getReloadedBytes() {
+        return reloadedBytes;
+    }
+
+    /**
+     * Returns the time spent reloading so far.
+     *
+     * @return the reload time in ns
+     */
+    public long getReloadNanos() {
+        return reloadNanos;
+    }
+
+    /**
+     * Returns the spill throughput so far.
+     *
+     * @return spilled megabytes per second, 0 before the first spill
+     */
+    public double getSpillThroughput() {
+        return spillNanos == 0 ? 0 : spilledBytes * 1e3 / spillNanos;
+    }
+
+    /**
+     * Returns the reload throughput so far.
+     *
+     * @return reloaded megabytes per second, 0 before the first reload
+     */
+    public double getReloadThroughput() {
+        return reloadNanos == 0 ? 0 : reloadedBytes * 1e3 / reloadNanos;
+    }
+
+    /**
+     * Returns the number of segments whose records are in memory.
+     *
+     * @return the resident segment count
+     */
+    public int getResidentSegments() {
+        return residentSegments;
+    }
+
+    /**
+     * Returns whether the deque holds no records.
+     *
+     * @return true if the deque is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of records in the deque.
+     *
+     * @return the size of the deque
+     */
+    public long size() {
+        return size;
+    }
+}
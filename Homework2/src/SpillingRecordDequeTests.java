@@ -0,0 +1,179 @@
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for SpillingRecordDeque, with 4-record segments of 8-byte records
+ * and room for three resident segments.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class SpillingRecordDequeTests {
+
+    private static final RecordCodec<Long> CODEC = new RecordCodec<Long>() {
+        @Override
+        public int recordSize() {
+            return 8;
+        }
+
+        @Override
+        public void encode(Long value, ByteBuffer target, int offset) {
+            target.putLong(offset, value);
+        }
+
+        @Override
+        public Long decode(ByteBuffer source, int offset) {
+            return source.getLong(offset);
+        }
+    };
+
+    private Path directory;
+    private SpillingRecordDeque<Long> deque;
+
+    public static final int TIMEOUT = 10000;
+
+    @Before
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("spill-test");
+        deque = new SpillingRecordDeque<>(CODEC, 4, 3 * 4 * 8, directory);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        deque.close();
+        assertEquals(0, spillFiles());
+        Files.delete(directory);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testQueueBacklogSpillsAndReloadsInOrder() throws IOException {
+        for (long i = 0; i < 100; i++) {
+            deque.addLast(i);
+        }
+        assertEquals(100, deque.size());
+        assertEquals(3, deque.getResidentSegments());
+        assertTrue(deque.getSpillCount() > 0);
+        assertEquals(deque.getSpillCount(), spillFiles());
+        assertEquals(deque.getSpillCount() * 32, deque.getSpilledBytes());
+        for (long i = 0; i < 100; i++) {
+            assertEquals((Long) i, deque.removeFirst());
+            assertTrue(deque.getResidentSegments() <= 3);
+        }
+        assertTrue(deque.isEmpty());
+        assertEquals(deque.getSpillCount(), deque.getReloadCount());
+        assertEquals(deque.getSpilledBytes(), deque.getReloadedBytes());
+        assertEquals(0, spillFiles());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testStackReloadsFromTailSide() {
+        for (long i = 0; i < 50; i++) {
+            deque.addFirst(i);
+        }
+        assertTrue(deque.getSpillCount() > 0);
+        for (long i = 0; i < 50; i++) {
+            assertEquals((Long) i, deque.removeLast());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testStackAtBoundaryDoesNotThrash() {
+        for (long i = 0; i < 42; i++) {
+            deque.addFirst(i);
+        }
+        long spills = deque.getSpillCount();
+        long reloads = deque.getReloadCount();
+        assertTrue(spills > 0);
+        for (int round = 0; round < 100; round++) {
+            for (int i = 0; i < 4; i++) {
+                deque.removeFirst();
+            }
+            for (long i = 38; i < 42; i++) {
+                deque.addFirst(i);
+            }
+        }
+        assertEquals(spills, deque.getSpillCount());
+        assertEquals(reloads, deque.getReloadCount());
+        for (long i = 41; i >= 0; i--) {
+            assertEquals((Long) i, deque.removeFirst());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSegmentsUseNativeByteOrder() throws IOException {
+        SpillSegment segment = new SpillSegment(4, 8);
+        assertEquals(ByteOrder.nativeOrder(), segment.getBuffer().order());
+        segment.getBuffer().putLong(segment.addLast(), 0x0102030405060708L);
+        segment.spill(directory.resolve("order.spill"));
+        assertEquals(8, segment.reload());
+        assertEquals(ByteOrder.nativeOrder(), segment.getBuffer().order());
+        assertEquals(0x0102030405060708L,
+                segment.getBuffer().getLong(segment.removeFirst()));
+        assertEquals(0, spillFiles());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMatchesJavaDequeUnderRandomOperations() {
+        java.util.ArrayDeque<Long> expected = new java.util.ArrayDeque<>();
+        Random random = new Random(1332);
+        for (long i = 0; i < 20000; i++) {
+            int op = random.nextInt(5);
+            if (op == 0) {
+                expected.addFirst(i);
+                deque.addFirst(i);
+            } else if (op == 1 || op == 2) {
+                expected.addLast(i);
+                deque.addLast(i);
+            } else if (!expected.isEmpty()) {
+                if (op == 3) {
+                    assertEquals(expected.removeFirst(), deque.removeFirst());
+                } else {
+                    assertEquals(expected.removeLast(), deque.removeLast());
+                }
+            }
+            assertEquals(expected.size(), deque.size());
+            assertTrue(deque.getResidentSegments() <= 3);
+        }
+        assertTrue(deque.getSpillCount() > 0);
+        while (!expected.isEmpty()) {
+            assertEquals(expected.removeFirst(), deque.removeFirst());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testCloseDeletesSpillFiles() throws IOException {
+        for (long i = 0; i < 100; i++) {
+            deque.addLast(i);
+        }
+        assertTrue(spillFiles() > 0);
+        deque.close();
+        assertEquals(0, spillFiles());
+        assertTrue(deque.isEmpty());
+        deque.addLast(1L);
+        assertEquals((Long) 1L, deque.removeLast());
+    }
+
+    /**
+     * Counts the files in the spill directory.
+     *
+     * @return the number of files
+     * @throws IOException if the directory cannot be listed
+     */
+    private long spillFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * A bounded single-producer/single-consumer queue over the circular array
+ * of ArrayDeque. Exactly one thread may call {@link #addLast(Object)} and
+ * exactly one (possibly different) thread may call {@link #removeFirst()};
+ * under that rule both operations are wait-free and use no CAS.
+ *
+ * Each side owns its index. It keeps it, together with a cached copy of
+ * the other side's index, in plain fields of its own SpscCursor, which no
+ * other thread touches. It publishes the index to a PaddedSequence with
+ * AtomicLong-style {@code lazySet}, an ordered store that is cheaper than
+ * a volatile write. A side only does a volatile load of the other side's
+ * published index when its cache says the queue is full or empty, so in
+ * the steady state an operation does no volatile load and neither side
+ * touches the other's cache lines.
+ *
+ * Unlike ArrayDeque the queue never grows: {@code addLast} returns false
+ * when it is full and {@code removeFirst} returns null when it is empty.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class SpscArrayQueue<T> {
+    private final Object[] buffer;
+    private final int mask;
+    private final PaddedSequence front = new PaddedSequence(0);
+    private final PaddedSequence back = new PaddedSequence(0);
+    private final SpscCursor producer = new SpscCursor();
+    private final SpscCursor consumer = new SpscCursor();
+
+    /**
+     * Constructs a new SpscArrayQueue holding at least {@code capacity}
+     * elements. The capacity is rounded up to a power of two.
+     *
+     * @param capacity the minimum number of elements the queue can hold
+     * @throws java.lang.IllegalArgumentException if capacity is not
+     * between 1 and 2^30
+     */
+    public SpscArrayQueue(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException(
+                    "capacity must be between 1 and 2^30");
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        buffer = new Object[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Adds the data to the back of the queue if there is room. Must only be
+     * called from the producer thread.
+     *
+     * This method is wait-free and runs in O(1) time.
+     *
+     * @param data the data to add to the queue
+     * @return true if added, false if the queue was full
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean addLast(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        long position = producer.getPosition();
+        if (position - producer.getCached() > mask) {
+            long consumed = front.get();
+            producer.setCached(consumed);
+            if (position - consumed > mask) {
+                return false;
+            }
+        }
+        buffer[(int) position & mask] = data;
+        producer.setPosition(position + 1);
+        back.lazySet(position + 1);
+        return true;
+    }
+
+    /**
+     * Removes the data at the front of the queue, if there is any. Must only
+     * be called from the consumer thread.
+     *
+     * This method is wait-free and runs in O(1) time.
+     *
+     * @return the data formerly at the front, null if the queue was empty
+     */
+    @SuppressWarnings("unchecked")
+    public T removeFirst() {
+        long position = consumer.getPosition();
+        if (position >= consumer.getCached()) {
+            long produced = back.get();
+            consumer.setCached(produced);
+            if (position >= produced) {
+                return null;
+            }
+        }
+        int index = (int) position & mask;
+        T data = (T) buffer[index];
+        buffer[index] = null;
+        consumer.setPosition(position + 1);
+        front.lazySet(position + 1);
+        return data;
+    }
+
+    /**
+     * Returns the number of elements the queue can hold.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns the number of elements in the queue. Under concurrent updates
+     * this is a momentary estimate.
+     *
+     * @return the size of the queue
+     */
+    public int size() {
+        long size = back.get() - front.get();
+        return (int) Math.max(0, Math.min(size, mask + 1));
+    }
+}
@@ -0,0 +1,108 @@
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Throughput benchmark for one producer and one consumer thread, comparing
+ * SpscArrayQueue, MpmcRingBuffer and an ArrayDeque guarded by
+ * {@code synchronized}. All three queues hold {@code CAPACITY} elements and
+ * threads yield when the queue is full or empty.
+ *
+ * The elements are a small set of preallocated Integers, so boxing does not
+ * dominate the cost of a transfer.
+ *
+ * Run with {@code java SpscArrayQueueBenchmark [items] [rounds]}.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class SpscArrayQueueBenchmark {
+
+    /**
+     * The number of elements each queue may hold.
+     */
+    public static final int CAPACITY = 1024;
+
+    private static final Integer[] VALUES = new Integer[128];
+
+    static {
+        for (int i = 0; i < VALUES.length; i++) {
+            VALUES[i] = i;
+        }
+    }
+
+    /**
+     * Runs the benchmark and prints one line per round.
+     *
+     * @param args optional item count and number of rounds
+     * @throws InterruptedException if interrupted while joining workers
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int items = args.length > 0 ? Integer.parseInt(args[0]) : 10000000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        System.out.printf("%5s | %10s %8s | %10s %8s | %10s %8s%n", "round",
+                "spsc Mops", "ns/op", "mpmc Mops", "ns/op", "lock Mops",
+                "ns/op");
+        for (int round = 0; round < rounds; round++) {
+            SpscArrayQueue<Integer> spsc = new SpscArrayQueue<>(CAPACITY);
+            MpmcRingBuffer<Integer> mpmc = new MpmcRingBuffer<>(CAPACITY);
+            ArrayDeque<Integer> deque = new ArrayDeque<>(true);
+            double spscTime = run(items, spsc::addLast, spsc::removeFirst);
+            double mpmcTime = run(items, mpmc::offer, mpmc::poll);
+            double lockTime = run(items, value -> {
+                synchronized (deque) {
+                    if (deque.size() >= CAPACITY) {
+                        return false;
+                    }
+                    deque.addLast(value);
+                    return true;
+                }
+            }, () -> {
+                synchronized (deque) {
+                    return deque.size() == 0 ? null : deque.removeFirst();
+                }
+            });
+            System.out.printf("%5d | %10.2f %8.1f | %10.2f %8.1f | %10.2f "
+                    + "%8.1f%n", round, items * 1e3 / spscTime,
+                    spscTime / items, items * 1e3 / mpmcTime,
+                    mpmcTime / items, items * 1e3 / lockTime,
+                    lockTime / items);
+        }
+    }
+
+    /**
+     * Transfers items elements from one producer thread to one consumer
+     * thread through the given queue operations.
+     *
+     * @param items the number of elements to transfer
+     * @param offer adds an element, returning false if the queue is full
+     * @param poll removes an element, returning null if the queue is empty
+     * @return the elapsed time in ns
+     * @throws InterruptedException if interrupted while joining workers
+     */
+    private static double run(int items, Predicate<Integer> offer,
+            Supplier<Integer> poll) throws InterruptedException {
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < items; i++) {
+                while (!offer.test(VALUES[i & (VALUES.length - 1)])) {
+                    Thread.yield();
+                }
+            }
+        });
+        Thread consumer = new Thread(() -> {
+            int taken = 0;
+            while (taken < items) {
+                if (poll.get() == null) {
+                    Thread.yield();
+                } else {
+                    taken++;
+                }
+            }
+        });
+        long start = System.nanoTime();
+        producer.start();
+        consumer.start();
+        producer.join();
+        consumer.join();
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,97 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for SpscArrayQueue, single-threaded and with one producer and one
+ * consumer thread.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class SpscArrayQueueTests {
+
+    private SpscArrayQueue<Integer> queue;
+
+    public static final int TIMEOUT = 10000;
+
+    @Before
+    public void setup() {
+        queue = new SpscArrayQueue<>(5);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddRemoveWrapsAround() {
+        assertEquals(8, queue.capacity());
+        assertNull(queue.removeFirst());
+        for (int lap = 0; lap < 3; lap++) {
+            for (int i = 0; i < 8; i++) {
+                assertTrue(queue.addLast(lap * 8 + i));
+            }
+            assertFalse(queue.addLast(-1));
+            assertEquals(8, queue.size());
+            for (int i = 0; i < 8; i++) {
+                assertEquals((Integer) (lap * 8 + i), queue.removeFirst());
+            }
+            assertNull(queue.removeFirst());
+            assertEquals(0, queue.size());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInterleavedRefreshesCachedIndices() {
+        for (int i = 0; i < 100; i++) {
+            assertTrue(queue.addLast(2 * i));
+            assertTrue(queue.addLast(2 * i + 1));
+            assertEquals((Integer) (2 * i), queue.removeFirst());
+            assertEquals((Integer) (2 * i + 1), queue.removeFirst());
+        }
+        assertNull(queue.removeFirst());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        queue.addLast(null);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testConcurrentTransferKeepsOrder() throws Exception {
+        queue = new SpscArrayQueue<>(1024);
+        final int count = 300000;
+        final int[] received = new int[1];
+        final boolean[] ordered = {true};
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (!queue.addLast(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        Thread consumer = new Thread(() -> {
+            int expected = 0;
+            while (expected < count) {
+                Integer value = queue.removeFirst();
+                if (value == null) {
+                    Thread.yield();
+                } else {
+                    if (value != expected) {
+                        ordered[0] = false;
+                    }
+                    expected++;
+                }
+            }
+            received[0] = expected;
+        });
+        producer.start();
+        consumer.start();
+        producer.join();
+        consumer.join();
+        assertTrue(ordered[0]);
+        assertEquals(count, received[0]);
+        assertNull(queue.removeFirst());
+    }
+}
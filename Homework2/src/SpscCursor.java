@@ -0,0 +1,70 @@
+/**
+ * The private state of one side of SpscArrayQueue: the side's own index
+ * and its cached copy of the other side's index. Only the owning thread
+ * ever touches a cursor, so both fields are plain. Seven longs of padding
+ * on each side keep them off the cache lines of the other side's cursor
+ * and of the published indices.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class SpscCursor {
+    // padding before the fields; never read
+    private long p01;
+    private long p02;
+    private long p03;
+    private long p04;
+    private long p05;
+    private long p06;
+    private long p07;
+
+    private long position;
+    private long cached;
+
+    // padding after the fields; never read
+    private long p11;
+    private long p12;
+    private long p13;
+    private long p14;
+    private long p15;
+    private long p16;
+    private long p17;
+
+    /**
+     * Gets the owning side's own index.
+     *
+     * @return the index of the next slot this side will use
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Sets the owning side's own index.
+     *
+     * @param position the index of the next slot this side will use
+     */
+    public void setPosition(long position) {
+        this.position = position;
+    }
+
+    /**
+     * Gets the last value this side read from the other side's index.
+     *
+     * @return the cached index of the other side
+     */
+    public long getCached() {
+        return cached;
+    }
+
+    /**
+     * Sets the cached copy of the other side's index.
+     *
+     * @param cached the index just read from the other side
+     */
+    public void setCached(long cached) {
+        this.cached = cached;
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ * Entry class used by the sliding-window aggregators. An entry is one event
+ * of the stream, its timestamp, and optionally an aggregate that the owning
+ * aggregator keeps alongside it.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class WindowEntry<T> {
+    private final long timestamp;
+    private final T value;
+    private T aggregate;
+
+    /**
+     * Creates a new WindowEntry.
+     *
+     * @param timestamp the timestamp of the event
+     * @param value the value of the event
+     */
+    public WindowEntry(long timestamp, T value) {
+        this.timestamp = timestamp;
+        this.value = value;
+    }
+
+    /**
+     * Gets the timestamp of the event.
+     *
+     * @return the timestamp
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Gets the value of the event.
+     *
+     * @return the value
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the aggregate stored with the entry.
+     *
+     * @return the aggregate, null if none was set
+     */
+    public T getAggregate() {
+        return aggregate;
+    }
+
+    /**
+     * Sets the aggregate stored with the entry.
+     *
+     * @param aggregate the new aggregate
+     */
+    public void setAggregate(T aggregate) {
+        this.aggregate = aggregate;
+    }
+
+    @Override
+    public String toString() {
+        return "Window entry: " + value + " at " + timestamp;
+    }
+}
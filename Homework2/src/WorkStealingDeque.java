@@ -0,0 +1,171 @@
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A Chase-Lev work-stealing deque. One owner thread pushes and pops at the
+ * bottom; any number of thief threads steal from the top. Elements live in
+ * a growable power-of-two circular array, as in the power-of-two mode of
+ * ArrayDeque, indexed by the unbounded counters {@code top} and
+ * {@code bottom}.
+ *
+ * The owner works on the bottom without a CAS except when it takes the last
+ * element, where it races the thieves for it through a CAS on {@code top}.
+ * Thieves always CAS {@code top}. When the array is full the owner copies
+ * the live range into an array twice the size and publishes it; thieves
+ * still reading the old array see the same elements at the same positions,
+ * so the old array never has to be cleared.
+ *
+ * Only the owner clears slots. A thief cannot clear the slot it stole
+ * from, because the owner may already be reusing it, so the deque may hold
+ * on to up to one array's worth of stolen elements until they are
+ * overwritten.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class WorkStealingDeque<T> {
+
+    /**
+     * The initial length of the circular array.
+     */
+    public static final int INITIAL_CAPACITY = 32;
+
+    private final PaddedSequence top = new PaddedSequence(0);
+    private final PaddedSequence bottom = new PaddedSequence(0);
+    private volatile AtomicReferenceArray<T> array =
+            new AtomicReferenceArray<>(INITIAL_CAPACITY);
+
+    /**
+     * Pushes the data onto the bottom of the deque. Must only be called by
+     * the owner thread.
+     *
+     * Amortized O(1); O(n) when the array grows.
+     *
+     * @param data the data to push
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void push(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        long b = bottom.get();
+        long t = top.get();
+        AtomicReferenceArray<T> a = array;
+        if (b - t >= a.length()) {
+            a = grow(a, t, b);
+        }
+        a.lazySet((int) b & (a.length() - 1), data);
+        bottom.lazySet(b + 1);
+    }
+
+    /**
+     * Pops the data at the bottom of the deque, the most recently pushed
+     * element that has not been taken. Must only be called by the owner
+     * thread.
+     *
+     * O(1).
+     *
+     * @return the data formerly at the bottom, null if the deque was empty
+     * or a thief took the last element first
+     */
+    public T pop() {
+        long b = bottom.get() - 1;
+        AtomicReferenceArray<T> a = array;
+        bottom.set(b);
+        long t = top.get();
+        if (t > b) {
+            bottom.set(b + 1);
+            return null;
+        }
+        int index = (int) b & (a.length() - 1);
+        T data = a.get(index);
+        if (t < b) {
+            a.lazySet(index, null);
+            return data;
+        }
+        if (top.compareAndSet(t, t + 1)) {
+            a.lazySet(index, null);
+        } else {
+            data = null;
+        }
+        bottom.set(b + 1);
+        return data;
+    }
+
+    /**
+     * Steals the data at the top of the deque, the oldest element that has
+     * not been taken. May be called by any thread.
+     *
+     * Lock-free; O(1).
+     *
+     * @return the data formerly at the top, null if the deque was empty or
+     * another thread took the element first
+     */
+    public T steal() {
+        long t = top.get();
+        long b = bottom.get();
+        if (t >= b) {
+            return null;
+        }
+        AtomicReferenceArray<T> a = array;
+        T data = a.get((int) t & (a.length() - 1));
+        if (data == null || !top.compareAndSet(t, t + 1)) {
+            return null;
+        }
+        return data;
+    }
+
+    /**
+     * Copies the live range of the array into an array twice the size and
+     * publishes it. Elements keep their positions, so they land at the same
+     * counter values in the new array.
+     *
+     * @param old the current array
+     * @param t the top counter
+     * @param b the bottom counter
+     * @return the new array
+     */
+    private AtomicReferenceArray<T> grow(AtomicReferenceArray<T> old, long t,
+            long b) {
+        AtomicReferenceArray<T> a =
+                new AtomicReferenceArray<>(old.length() << 1);
+        for (long i = t; i < b; i++) {
+            a.lazySet((int) i & (a.length() - 1),
+                    old.get((int) i & (old.length() - 1)));
+        }
+        array = a;
+        return a;
+    }
+
+    /**
+     * Returns the number of elements in the deque. Under concurrent updates
+     * this is a momentary estimate.
+     *
+     * @return the size of the deque
+     */
+    public int size() {
+        long b = bottom.get();
+        long t = top.get();
+        return (int) Math.max(0, b - t);
+    }
+
+    /**
+     * Returns whether the deque is empty. Under concurrent updates this is
+     * a momentary estimate.
+     *
+     * @return true if the deque holds no elements
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the length of the current circular array.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return array.length();
+    }
+}
@@ -0,0 +1,215 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for WorkStealingDeque and the WorkStealingPool built on it.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class WorkStealingDequeTests {
+
+    private WorkStealingDeque<Integer> deque;
+
+    public static final int TIMEOUT = 10000;
+
+    @Before
+    public void setup() {
+        deque = new WorkStealingDeque<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testOwnerIsLifoThiefIsFifo() {
+        assertNull(deque.pop());
+        assertNull(deque.steal());
+        for (int i = 0; i < 5; i++) {
+            deque.push(i);
+        }
+        assertEquals((Integer) 4, deque.pop());
+        assertEquals((Integer) 0, deque.steal());
+        assertEquals((Integer) 1, deque.steal());
+        assertEquals((Integer) 3, deque.pop());
+        assertEquals((Integer) 2, deque.pop());
+        assertNull(deque.pop());
+        assertNull(deque.steal());
+        assertEquals(0, deque.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGrowsAcrossWrappedRange() {
+        int initial = WorkStealingDeque.INITIAL_CAPACITY;
+        for (int i = 0; i < initial; i++) {
+            deque.push(-1);
+        }
+        for (int i = 0; i < initial; i++) {
+            deque.steal();
+        }
+        for (int i = 0; i < initial * 3; i++) {
+            deque.push(i);
+        }
+        assertEquals(initial * 4, deque.capacity());
+        assertEquals(initial * 3, deque.size());
+        for (int i = 0; i < initial * 3; i++) {
+            assertEquals((Integer) i, deque.steal());
+        }
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testConcurrentStealsTakeEachElementOnce() throws Exception {
+        final int count = 200000;
+        final int thieves = 3;
+        AtomicIntegerArray seen = new AtomicIntegerArray(count);
+        Thread[] threads = new Thread[thieves];
+        AtomicBoolean ownerDone = new AtomicBoolean();
+        for (int i = 0; i < thieves; i++) {
+            threads[i] = new Thread(() -> {
+                while (true) {
+                    boolean finished = ownerDone.get();
+                    Integer value = deque.steal();
+                    if (value != null) {
+                        seen.incrementAndGet(value);
+                    } else if (finished && deque.isEmpty()) {
+                        return;
+                    } else {
+                        Thread.yield();
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (int i = 0; i < count; i++) {
+            deque.push(i);
+            if (i % 3 == 0) {
+                Integer value = deque.pop();
+                if (value != null) {
+                    seen.incrementAndGet(value);
+                }
+            }
+        }
+        ownerDone.set(true);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int i = 0; i < count; i++) {
+            assertEquals(1, seen.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPoolComputesRecursiveSum() {
+        WorkStealingPool pool = new WorkStealingPool(3);
+        try {
+            assertEquals((Long) 500000500000L, pool.invoke(sum(1, 1000000)));
+            assertEquals((Long) 55L, pool.invoke(sum(1, 10)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(timeout = TIMEOUT, expected = ArithmeticException.class)
+    public void testPoolRethrowsTaskFailure() {
+        WorkStealingPool pool = new WorkStealingPool(2);
+        try {
+            pool.invoke(new WorkStealingTask<Integer>() {
+                @Override
+                protected Integer compute() {
+                    WorkStealingTask<Long> child = sum(1, 10000).fork();
+                    child.join();
+                    throw new ArithmeticException("boom");
+                }
+            });
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testShutdownRejectsQueuedSubmissions() throws Exception {
+        WorkStealingPool pool = new WorkStealingPool(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Object> first = new AtomicReference<>();
+        AtomicReference<Object> second = new AtomicReference<>();
+        Thread busy = new Thread(() -> first.set(pool.invoke(
+                new WorkStealingTask<Integer>() {
+                    @Override
+                    protected Integer compute() {
+                        started.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            throw new IllegalStateException(e);
+                        }
+                        return 1;
+                    }
+                })));
+        busy.start();
+        started.await();
+        Thread queued = new Thread(() -> {
+            try {
+                second.set(pool.invoke(sum(1, 10)));
+            } catch (IllegalStateException e) {
+                second.set(e);
+            }
+        });
+        queued.start();
+        while (queued.getState() != Thread.State.TIMED_WAITING) {
+            Thread.yield();
+        }
+
+        pool.shutdown();
+        queued.join();
+        assertTrue(second.get() instanceof IllegalStateException);
+        release.countDown();
+        busy.join();
+        assertEquals(1, first.get());
+        try {
+            pool.invoke(sum(1, 10));
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("the pool was shut down", e.getMessage());
+        }
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalStateException.class)
+    public void testForkOutsidePool() {
+        sum(1, 10).fork();
+    }
+
+    /**
+     * Creates a task summing lo..hi inclusive by splitting in halves.
+     *
+     * @param lo the first number
+     * @param hi the last number
+     * @return the task
+     */
+    private static WorkStealingTask<Long> sum(long lo, long hi) {
+        return new WorkStealingTask<Long>() {
+            @Override
+            protected Long compute() {
+                if (hi - lo < 1000) {
+                    long total = 0;
+                    for (long i = lo; i <= hi; i++) {
+                        total += i;
+                    }
+                    return total;
+                }
+                long mid = (lo + hi) >>> 1;
+                WorkStealingTask<Long> left = sum(lo, mid).fork();
+                long right = sum(mid + 1, hi).invoke();
+                return left.join() + right;
+            }
+        };
+    }
+}
@@ -0,0 +1,199 @@
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A minimal fork-join executor. Each worker owns a Chase-Lev
+ * WorkStealingDeque; tasks submitted from outside go through a shared
+ * queue, and a worker with nothing of its own to do takes a submission or
+ * steals from a randomly chosen worker.
+ *
+ * Idle workers back off from yielding to short parks, so a task submitted
+ * to an idle pool may wait for up to {@code MAX_IDLE_PARK_NANOS} before it
+ * is picked up.
+ *
+ * Shutting down lets running tasks finish, but every task that is still
+ * queued when the pool stops is completed with an IllegalStateException
+ * instead of being run, so no caller of join waits forever.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class WorkStealingPool {
+
+    /**
+     * The longest time an idle worker parks before looking for work again.
+     */
+    public static final long MAX_IDLE_PARK_NANOS = 100000;
+
+    private static final int IDLE_YIELDS = 64;
+
+    private final WorkStealingWorker[] workers;
+    private final ConcurrentLinkedQueue<WorkStealingTask<?>> submissions =
+            new ConcurrentLinkedQueue<>();
+    private final AtomicLong steals = new AtomicLong();
+    private volatile boolean running = true;
+
+    /**
+     * Creates a pool with one worker per available processor.
+     */
+    public WorkStealingPool() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a pool with the given number of workers and starts them.
+     *
+     * @param parallelism the number of worker threads
+     * @throws java.lang.IllegalArgumentException if parallelism is not
+     * positive
+     */
+    public WorkStealingPool(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "parallelism must be positive");
+        }
+        workers = new WorkStealingWorker[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = new WorkStealingWorker(this, i);
+        }
+        for (WorkStealingWorker worker : workers) {
+            worker.start();
+        }
+    }
+
+    /**
+     * Runs the task in the pool and waits for its result. Called from a
+     * worker, the task runs directly in that worker.
+     *
+     * @param task the task to run
+     * @param <V> the type of the result
+     * @return the result of the task
+     * @throws java.lang.IllegalArgumentException if task is null
+     * @throws java.lang.IllegalStateException if the pool was shut down
+     * before the task ran
+     * @throws java.lang.RuntimeException if the task threw one, rethrown
+     */
+    public <V> V invoke(WorkStealingTask<V> task) {
+        if (task == null) {
+            throw new IllegalArgumentException("task cannot be null");
+        }
+        if (!running) {
+            throw rejection();
+        }
+        if (WorkStealingWorker.current() != null) {
+            return task.invoke();
+        }
+        submissions.add(task);
+        if (!running && submissions.remove(task)) {
+            throw rejection();
+        }
+        for (WorkStealingWorker worker : workers) {
+            LockSupport.unpark(worker);
+        }
+        return task.join();
+    }
+
+    /**
+     * Creates the exception for a task the pool will not run.
+     *
+     * @return the exception
+     */
+    static IllegalStateException rejection() {
+        return new IllegalStateException("the pool was shut down");
+    }
+
+    /**
+     * Finds a task for an idle worker: the oldest submission, or else a
+     * task stolen from another worker.
+     *
+     * @param thief the worker looking for a task
+     * @return the task, null if none was found
+     */
+    WorkStealingTask<?> scan(WorkStealingWorker thief) {
+        WorkStealingTask<?> task = submissions.poll();
+        if (task != null) {
+            return task;
+        }
+        int start = ThreadLocalRandom.current().nextInt(workers.length);
+        for (int i = 0; i < workers.length; i++) {
+            WorkStealingWorker victim = workers[(start + i) % workers.length];
+            if (victim != thief) {
+                task = victim.steal();
+                if (task != null) {
+                    steals.incrementAndGet();
+                    return task;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Backs off after a worker failed to find a task: yields for the first
+     * few rounds, then parks for doubling times up to
+     * {@code MAX_IDLE_PARK_NANOS}.
+     *
+     * @param rounds the number of failed rounds so far
+     * @return the new number of failed rounds
+     */
+    int idle(int rounds) {
+        if (rounds < IDLE_YIELDS) {
+            Thread.yield();
+        } else {
+            int shift = Math.min(rounds - IDLE_YIELDS, 10);
+            LockSupport.parkNanos(this,
+                    Math.min(MAX_IDLE_PARK_NANOS, 1000L << shift));
+        }
+        return Math.min(rounds + 1, IDLE_YIELDS + 10);
+    }
+
+    /**
+     * Returns whether the pool still accepts tasks.
+     *
+     * @return false once shutdown was called
+     */
+    boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Returns the number of worker threads.
+     *
+     * @return the parallelism of the pool
+     */
+    public int getParallelism() {
+        return workers.length;
+    }
+
+    /**
+     * Returns the number of tasks workers have stolen from each other.
+     *
+     * @return the steal count
+     */
+    public long getStealCount() {
+        return steals.get();
+    }
+
+    /**
+     * Stops the workers once they finish the tasks they are running. Tasks
+     * still waiting in the submission queue or on a worker's deque are not
+     * run: they complete with an IllegalStateException, which their join
+     * rethrows. A submission that races with shutdown is either run or
+     * rejected, never stranded, because invoke checks the pool again after
+     * queueing it.
+     */
+    public void shutdown() {
+        running = false;
+        for (WorkStealingTask<?> task = submissions.poll(); task != null;
+                task = submissions.poll()) {
+            task.reject(rejection());
+        }
+        for (WorkStealingWorker worker : workers) {
+            LockSupport.unpark(worker);
+        }
+    }
+}
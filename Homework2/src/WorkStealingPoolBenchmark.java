@@ -0,0 +1,178 @@
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Benchmark for WorkStealingPool against ForkJoinPool on a recursive merge
+ * sort of a random int array. Both pools get the same parallelism and the
+ * same sort: halves are sorted as forked subtasks down to
+ * {@code SEQUENTIAL_THRESHOLD} elements, below which insertion sort and a
+ * sequential merge take over.
+ *
+ * Run with {@code java WorkStealingPoolBenchmark [length] [rounds]}.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class WorkStealingPoolBenchmark {
+
+    /**
+     * Ranges of at most this many elements are sorted without forking.
+     */
+    public static final int SEQUENTIAL_THRESHOLD = 256;
+
+    /**
+     * Runs the benchmark and prints one line per round.
+     *
+     * @param args optional array length and number of rounds
+     */
+    public static void main(String[] args) {
+        int length = args.length > 0 ? Integer.parseInt(args[0]) : 4000000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        int[] input = new Random(1332).ints(length).toArray();
+        int[] expected = input.clone();
+        Arrays.sort(expected);
+
+        WorkStealingPool pool = new WorkStealingPool(parallelism);
+        ForkJoinPool forkJoin = new ForkJoinPool(parallelism);
+        System.out.printf("parallelism %d, %d ints%n", parallelism, length);
+        System.out.printf("%5s | %12s %8s | %12s%n", "round", "pool ms",
+                "steals", "forkjoin ms");
+        try {
+            for (int round = 0; round < rounds; round++) {
+                int[] a = input.clone();
+                long stealsBefore = pool.getStealCount();
+                long start = System.nanoTime();
+                pool.invoke(sortTask(a, new int[length], 0, length));
+                double poolMs = (System.nanoTime() - start) / 1e6;
+                check(a, expected);
+
+                int[] b = input.clone();
+                start = System.nanoTime();
+                forkJoin.invoke(sortAction(b, new int[length], 0, length));
+                double forkJoinMs = (System.nanoTime() - start) / 1e6;
+                check(b, expected);
+
+                System.out.printf("%5d | %12.1f %8d | %12.1f%n", round,
+                        poolMs, pool.getStealCount() - stealsBefore,
+                        forkJoinMs);
+            }
+        } finally {
+            pool.shutdown();
+            forkJoin.shutdown();
+        }
+    }
+
+    /**
+     * Creates a WorkStealingTask that merge sorts a[lo, hi).
+     *
+     * @param a the array to sort
+     * @param buffer scratch space as long as a
+     * @param lo the first index of the range
+     * @param hi one past the last index of the range
+     * @return the task
+     */
+    private static WorkStealingTask<Void> sortTask(int[] a, int[] buffer,
+            int lo, int hi) {
+        return new WorkStealingTask<Void>() {
+            @Override
+            protected Void compute() {
+                if (hi - lo <= SEQUENTIAL_THRESHOLD) {
+                    insertionSort(a, lo, hi);
+                    return null;
+                }
+                int mid = (lo + hi) >>> 1;
+                WorkStealingTask<Void> left = sortTask(a, buffer, lo, mid)
+                        .fork();
+                sortTask(a, buffer, mid, hi).invoke();
+                left.join();
+                merge(a, buffer, lo, mid, hi);
+                return null;
+            }
+        };
+    }
+
+    /**
+     * Creates a RecursiveAction that merge sorts a[lo, hi).
+     *
+     * @param a the array to sort
+     * @param buffer scratch space as long as a
+     * @param lo the first index of the range
+     * @param hi one past the last index of the range
+     * @return the action
+     */
+    private static RecursiveAction sortAction(int[] a, int[] buffer, int lo,
+            int hi) {
+        return new RecursiveAction() {
+            @Override
+            protected void compute() {
+                if (hi - lo <= SEQUENTIAL_THRESHOLD) {
+                    insertionSort(a, lo, hi);
+                    return;
+                }
+                int mid = (lo + hi) >>> 1;
+                RecursiveAction left = sortAction(a, buffer, lo, mid);
+                left.fork();
+                sortAction(a, buffer, mid, hi).invoke();
+                left.join();
+                merge(a, buffer, lo, mid, hi);
+            }
+        };
+    }
+
+    /**
+     * Sorts a[lo, hi) with insertion sort.
+     *
+     * @param a the array to sort
+     * @param lo the first index of the range
+     * @param hi one past the last index of the range
+     */
+    private static void insertionSort(int[] a, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            int value = a[i];
+            int j = i - 1;
+            while (j >= lo && a[j] > value) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = value;
+        }
+    }
+
+    /**
+     * Merges the sorted ranges a[lo, mid) and a[mid, hi) back into a.
+     *
+     * @param a the array holding both ranges
+     * @param buffer scratch space as long as a
+     * @param lo the first index of the left range
+     * @param mid the first index of the right range
+     * @param hi one past the last index of the right range
+     */
+    private static void merge(int[] a, int[] buffer, int lo, int mid,
+            int hi) {
+        System.arraycopy(a, lo, buffer, lo, hi - lo);
+        int i = lo;
+        int j = mid;
+        for (int k = lo; k < hi; k++) {
+            if (j >= hi || (i < mid && buffer[i] <= buffer[j])) {
+                a[k] = buffer[i++];
+            } else {
+                a[k] = buffer[j++];
+            }
+        }
+    }
+
+    /**
+     * Fails loudly if a sort went wrong.
+     *
+     * @param actual the sorted array
+     * @param expected the correctly sorted array
+     */
+    private static void check(int[] actual, int[] expected) {
+        if (!Arrays.equals(actual, expected)) {
+            throw new IllegalStateException("sort produced a wrong result");
+        }
+    }
+}
@@ -0,0 +1,147 @@
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A unit of work for a WorkStealingPool. Subclasses put the work in
+ * {@link #compute()}, which may {@link #fork()} subtasks onto the current
+ * worker's deque and later {@link #join()} them. A worker that joins an
+ * unfinished task keeps running other tasks, starting with its own deque,
+ * until the joined task is done, so no worker blocks while there is work.
+ *
+ * @param <V> the type of the result
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public abstract class WorkStealingTask<V> {
+    private static final long EXTERNAL_WAIT_NANOS = 1000000;
+
+    private volatile boolean done;
+    private volatile Thread waiter;
+    private V result;
+    private Throwable failure;
+
+    /**
+     * Performs the work of this task.
+     *
+     * @return the result of the task
+     */
+    protected abstract V compute();
+
+    /**
+     * Pushes this task onto the deque of the current worker, where it waits
+     * to be popped by the worker or stolen by another one.
+     *
+     * @return this task
+     * @throws java.lang.IllegalStateException if not called from a worker
+     * thread of a WorkStealingPool
+     */
+    public final WorkStealingTask<V> fork() {
+        WorkStealingWorker worker = WorkStealingWorker.current();
+        if (worker == null) {
+            throw new IllegalStateException(
+                    "fork must be called from a pool worker");
+        }
+        worker.push(this);
+        return this;
+    }
+
+    /**
+     * Waits for this task to finish and returns its result. On a worker
+     * thread the wait is spent running other tasks.
+     *
+     * @return the result of compute
+     * @throws java.lang.RuntimeException if compute threw one, rethrown
+     */
+    public final V join() {
+        if (!done) {
+            WorkStealingWorker worker = WorkStealingWorker.current();
+            if (worker != null) {
+                worker.helpUntilDone(this);
+            } else {
+                awaitExternally();
+            }
+        }
+        return report();
+    }
+
+    /**
+     * Runs this task in the current thread and returns its result.
+     *
+     * @return the result of compute
+     * @throws java.lang.RuntimeException if compute threw one, rethrown
+     */
+    public final V invoke() {
+        exec();
+        return report();
+    }
+
+    /**
+     * Returns whether this task has finished, normally or by throwing.
+     *
+     * @return true if the task is done
+     */
+    public final boolean isDone() {
+        return done;
+    }
+
+    /**
+     * Runs compute, records its outcome and wakes an external waiter.
+     * Called exactly once per task, by whichever thread took it.
+     */
+    final void exec() {
+        try {
+            result = compute();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+        }
+        done = true;
+        Thread thread = waiter;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Finishes a task that will never run, as if compute had thrown the
+     * given exception, and wakes an external waiter. Must only be called
+     * by the thread that took the task from its queue instead of running
+     * it.
+     *
+     * @param reason the exception join rethrows
+     */
+    final void reject(RuntimeException reason) {
+        failure = reason;
+        done = true;
+        Thread thread = waiter;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Parks a thread outside the pool until the task is done. The park is
+     * bounded, so extra external waiters still notice completion.
+     */
+    private void awaitExternally() {
+        waiter = Thread.currentThread();
+        while (!done) {
+            LockSupport.parkNanos(this, EXTERNAL_WAIT_NANOS);
+        }
+        waiter = null;
+    }
+
+    /**
+     * Returns the result of a finished task or rethrows its failure.
+     *
+     * @return the result of compute
+     */
+    private V report() {
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * A worker thread of a WorkStealingPool. Each worker owns a
+ * WorkStealingDeque: tasks forked on the worker are pushed onto it and the
+ * worker pops them back in LIFO order, while idle workers steal the oldest
+ * tasks from the other end.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class WorkStealingWorker extends Thread {
+    private final WorkStealingPool pool;
+    private final WorkStealingDeque<WorkStealingTask<?>> deque =
+            new WorkStealingDeque<>();
+
+    /**
+     * Creates a new daemon worker for the pool.
+     *
+     * @param pool the pool the worker belongs to
+     * @param index the index of the worker in the pool
+     */
+    WorkStealingWorker(WorkStealingPool pool, int index) {
+        super("work-stealing-worker-" + index);
+        this.pool = pool;
+        setDaemon(true);
+    }
+
+    /**
+     * Returns the worker running the current thread.
+     *
+     * @return the current worker, null if the thread is not a worker
+     */
+    static WorkStealingWorker current() {
+        Thread thread = Thread.currentThread();
+        return thread instanceof WorkStealingWorker
+                ? (WorkStealingWorker) thread : null;
+    }
+
+    /**
+     * Pushes a task onto this worker's deque. Must only be called by this
+     * worker.
+     *
+     * @param task the task to push
+     */
+    void push(WorkStealingTask<?> task) {
+        deque.push(task);
+    }
+
+    /**
+     * Steals the oldest task from this worker's deque.
+     *
+     * @return the stolen task, null if there was none
+     */
+    WorkStealingTask<?> steal() {
+        return deque.steal();
+    }
+
+    /**
+     * Runs tasks until the given one is done.
+     *
+     * @param task the task being joined
+     */
+    void helpUntilDone(WorkStealingTask<?> task) {
+        int idle = 0;
+        while (!task.isDone()) {
+            idle = runNext() ? 0 : pool.idle(idle);
+        }
+    }
+
+    /**
+     * Runs tasks until the pool shuts down, then rejects the tasks left on
+     * this worker's deque so nobody waits for them forever.
+     */
+    @Override
+    public void run() {
+        int idle = 0;
+        while (pool.isRunning()) {
+            idle = runNext() ? 0 : pool.idle(idle);
+        }
+        for (WorkStealingTask<?> task = deque.pop(); task != null;
+                task = deque.pop()) {
+            task.reject(WorkStealingPool.rejection());
+        }
+    }
+
+    /**
+     * Runs one task, taken from this worker's own deque if possible and
+     * otherwise from the pool.
+     *
+     * @return true if a task was run
+     */
+    private boolean runNext() {
+        WorkStealingTask<?> next = deque.pop();
+        if (next == null) {
+            next = pool.scan(this);
+        }
+        if (next == null) {
+            return false;
+        }
+        next.exec();
+        return true;
+    }
+}
@@ -1,8 +1,9 @@
+import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Queue;
-import java.util.LinkedList;
 import java.util.ArrayList;
+import java.util.ArrayDeque;
 import java.util.Collection;
 
 /**
@@ -51,6 +52,118 @@ public class BST<T extends Comparable<? super T>> {
         }
     }
 
+    /**
+     * Builds a perfectly balanced BST holding the distinct data of the
+     * collection. Input that is already sorted is detected in one pass and
+     * built in O(n); other input is sorted first, in O(n log n). Among
+     * equal data the first in the collection is kept, as repeated adds
+     * would.
+     *
+     * @throws IllegalArgumentException if data or any element in data is
+     * null
+     * @param data the data to build the tree from
+     * @param <T> the type of the data
+     * @return the balanced tree
+     */
+    public static <T extends Comparable<? super T>> BST<T> balanced(
+            Collection<T> data) {
+        BST<T> tree = new BST<>();
+        tree.addAll(data);
+        return tree;
+    }
+
+    /**
+     * Adds all the data of the collection by merging it with an inorder
+     * walk of the current contents and rebuilding the whole tree perfectly
+     * balanced. Data already in the tree keeps its stored instance. Unlike
+     * repeated calls to add, this reshapes the existing tree.
+     *
+     * Runs in O(n + m) for m sorted new data, O(n + m log m) otherwise.
+     *
+     * @throws IllegalArgumentException if data or any element in data is
+     * null
+     * @param data the data to add
+     */
+    public void addAll(Collection<T> data) {
+        List<T> incoming = sortedDistinct(data);
+        if (incoming.isEmpty()) {
+            return;
+        }
+        List<T> merged = new ArrayList<>(size + incoming.size());
+        Iterator<T> existing = inorderIterator();
+        T next = existing.hasNext() ? existing.next() : null;
+        for (T item : incoming) {
+            while (next != null && next.compareTo(item) < 0) {
+                merged.add(next);
+                next = existing.hasNext() ? existing.next() : null;
+            }
+            if (next == null || next.compareTo(item) > 0) {
+                merged.add(item);
+            }
+        }
+        while (next != null) {
+            merged.add(next);
+            next = existing.hasNext() ? existing.next() : null;
+        }
+        root = buildBalanced(merged, 0, merged.size() - 1);
+        size = merged.size();
+    }
+
+    /**
+     * private helper to sort and deduplicate bulk data, skipping the sort
+     * when the data is already in order
+     * @param data the collection to copy
+     * @param <T> the type of the data
+     * @return the distinct data in ascending order
+     */
+    private static <T extends Comparable<? super T>> List<T> sortedDistinct(
+            Collection<T> data) {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        List<T> list = new ArrayList<>(data);
+        boolean sorted = true;
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == null) {
+                throw new IllegalArgumentException(
+                        "There is a null in data.");
+            }
+            if (i > 0 && list.get(i - 1).compareTo(list.get(i)) > 0) {
+                sorted = false;
+            }
+        }
+        if (!sorted) {
+            list.sort(null);
+        }
+        int distinct = 0;
+        for (int i = 0; i < list.size(); i++) {
+            if (distinct == 0
+                    || list.get(distinct - 1).compareTo(list.get(i)) != 0) {
+                list.set(distinct++, list.get(i));
+            }
+        }
+        return list.subList(0, distinct);
+    }
+
+    /**
+     * private helper to build a perfectly balanced subtree from sorted
+     * data; recursion depth is only O(log n)
+     * @param sorted the distinct data in ascending order
+     * @param lo the first index of the subtree's data
+     * @param hi the last index of the subtree's data
+     * @return the root of the subtree, null if lo is greater than hi
+     */
+    private BSTNode<T> buildBalanced(List<T> sorted, int lo, int hi) {
+        if (lo > hi) {
+            return null;
+        }
+        int mid = (lo + hi) >>> 1;
+        BSTNode<T> node = new BSTNode<>(sorted.get(mid));
+        node.setLeft(buildBalanced(sorted, lo, mid - 1));
+        node.setRight(buildBalanced(sorted, mid + 1, hi));
+        return node;
+    }
+
     /**
      * Add the data as a leaf in the BST. Should traverse the tree to find the
      * appropriate location. If the data is already in the tree, then nothing
@@ -58,7 +171,8 @@ public class BST<T extends Comparable<? super T>> {
      * incremented).
      * 
      * Should have a running time of O(log n) for a balanced tree, and a worst
-     * case of O(n).
+     * case of O(n). Walks down the tree in a loop, so even a degenerate tree
+     * cannot overflow the stack.
      *
      * @throws IllegalArgumentException if the data is null
      * @param data the data to be added
@@ -67,38 +181,35 @@ public class BST<T extends Comparable<? super T>> {
         if (data == null) {
             throw new IllegalArgumentException("The added data cannot be null");
         }
-
-        root = helperAdd(root, data);
-
-    }
-
-    /**
-     * recursive helper method for add
-     * @param node a BSTNode to add from
-     * @param data the data needs to be added
-     * @return BSTNode return a node for pointer reinforcement
-     */
-    private BSTNode<T> helperAdd(BSTNode<T> node, T data) {
-        if (node == null) {
-            node = new BSTNode<>(data);
+        if (root == null) {
+            root = new BSTNode<>(data);
             size++;
-            return node;
+            return;
         }
-        int a = node.getData().compareTo(data);
-        if (a == 0) {
-            return node;
-        } else if (a > 0) {
-            //node>data
-            node.setLeft(helperAdd(node.getLeft(), data));
-        } else {
-            node.setRight(helperAdd(node.getRight(), data));
+        BSTNode<T> curr = root;
+        while (true) {
+            int a = curr.getData().compareTo(data);
+            if (a == 0) {
+                return;
+            } else if (a > 0) {
+                //node>data
+                if (curr.getLeft() == null) {
+                    curr.setLeft(new BSTNode<>(data));
+                    size++;
+                    return;
+                }
+                curr = curr.getLeft();
+            } else {
+                if (curr.getRight() == null) {
+                    curr.setRight(new BSTNode<>(data));
+                    size++;
+                    return;
+                }
+                curr = curr.getRight();
+            }
         }
-        return node;
     }
 
-
-
-
     /**
      * Removes the data from the tree. There are 3 cases to consider:
      *
@@ -106,8 +217,7 @@ public class BST<T extends Comparable<? super T>> {
      * 2: the data has one child. In this case, simply replace it with its
      * child.
      * 3: the data has 2 children. Use the successor to replace the data.
-     * You must use recursion to find and remove the successor (you will likely
-     * need an additional helper method to handle this case efficiently).
+     * The successor is found and unlinked in a loop, like the data itself.
      *
      * Should have a running time of O(log n) for a balanced tree, and a worst
      * case of O(n).
@@ -123,59 +233,48 @@ public class BST<T extends Comparable<? super T>> {
             throw new IllegalArgumentException(
                     "The data you want to remove cannot be null.");
         }
-        BSTNode<T> dummyNode = new BSTNode<>(null);
-        root = removeHelper(root, data, dummyNode);
-        return dummyNode.getData();
-    }
-
-    /**
-     * a private helper to remove the data recursively
-     * @param curr the current node to remove from
-     * @param data passed in to find and remove
-     * @param dummyNode used to store the node we found
-     * @return new node after remove
-     */
-    private BSTNode<T> removeHelper(BSTNode<T> curr,
-                                    T data, BSTNode<T> dummyNode) {
+        BSTNode<T> parent = null;
+        BSTNode<T> curr = root;
+        while (curr != null) {
+            int i = curr.getData().compareTo(data);
+            if (i == 0) {
+                break;
+            }
+            parent = curr;
+            curr = i < 0 ? curr.getRight() : curr.getLeft();
+        }
         if (curr == null) {
             throw new NoSuchElementException("The data is not found");
         }
-        int i = curr.getData().compareTo(data);
-        if (i < 0) {
-            curr.setRight(removeHelper(curr.getRight(), data, dummyNode));
-        } else if (i > 0) {
-            curr.setLeft(removeHelper(curr.getLeft(), data, dummyNode));
+        T removed = curr.getData();
+        size--;
+        if (curr.getLeft() != null && curr.getRight() != null) {
+            BSTNode<T> succParent = curr;
+            BSTNode<T> succ = curr.getRight();
+            while (succ.getLeft() != null) {
+                succParent = succ;
+                succ = succ.getLeft();
+            }
+            curr.setData(succ.getData());
+            if (succParent == curr) {
+                succParent.setRight(succ.getRight());
+            } else {
+                succParent.setLeft(succ.getRight());
+            }
         } else {
-            dummyNode.setData(data);
-            size--;
-            if (curr.getLeft() == null) {
-                return curr.getRight();
-            } else if (curr.getRight() == null) {
-                return curr.getLeft();
+            BSTNode<T> child = curr.getLeft() != null ? curr.getLeft()
+                    : curr.getRight();
+            if (parent == null) {
+                root = child;
+            } else if (parent.getLeft() == curr) {
+                parent.setLeft(child);
             } else {
-                BSTNode<T> dummy2 = new BSTNode<>(null);
-                curr.setRight(succ(curr.getRight(), dummy2));
-                curr.setData(dummy2.getData());
+                parent.setRight(child);
             }
         }
-        return curr;
+        return removed;
     }
 
-    /**
-     * private helper to find successor recursively
-     * @param cur current node passed in to find the successor
-     * @param dummy2 used to store the successor we found
-     * @return the new node after delete successor
-     */
-    private BSTNode<T> succ(BSTNode<T> cur, BSTNode<T> dummy2) {
-        if (cur.getLeft() == null) {
-            dummy2.setData(cur.getData());
-            return cur.getRight();
-        } else {
-            cur.setLeft(succ(cur.getLeft(), dummy2));
-            return cur;
-        }
-    }
     /**
      * Returns the data in the tree matching the parameter passed in (think
      * carefully: should you use value equality or reference equality?).
@@ -194,28 +293,11 @@ public class BST<T extends Comparable<? super T>> {
         if (data == null) {
             throw new IllegalArgumentException("data cannot be null");
         }
-        return getHelper(root, data);
-    }
-
-    /**
-     * private method used to find matched data recursively
-     * @param node the BSTNode need to find data from
-     * @param data we want to find
-     * @return node's data matching the data
-     */
-    private T getHelper(BSTNode<T> node, T data) {
+        BSTNode<T> node = find(data);
         if (node == null) {
             throw new NoSuchElementException("data is not found in this tree");
-        } else {
-            int i = node.getData().compareTo(data);
-            if (i == 0) {
-                return node.getData();
-            } else if (i < 0) {
-                return getHelper(node.getRight(), data);
-            } else {
-                return getHelper(node.getLeft(), data);
-            }
         }
+        return node.getData();
     }
 
     /**
@@ -234,28 +316,24 @@ public class BST<T extends Comparable<? super T>> {
         if (data == null) {
             throw new IllegalArgumentException("data cannot be null");
         }
-        return containHelper(root, data);
+        return find(data) != null;
     }
 
     /**
-     * private method used to recursive find contain data or not
-     * @param node the node we want to find from
+     * private method used to find the node holding matching data in a loop
      * @param data we want to find
-     * @return if we find or not
+     * @return the node holding data equal to it, null if there is none
      */
-    private boolean containHelper(BSTNode<T> node, T data) {
-        if (node == null) {
-            return false;
-        } else {
+    private BSTNode<T> find(T data) {
+        BSTNode<T> node = root;
+        while (node != null) {
             int i = node.getData().compareTo(data);
             if (i == 0) {
-                return true;
-            } else if (i < 0) {
-                return containHelper(node.getRight(), data);
-            } else {
-                return containHelper(node.getLeft(), data);
+                return node;
             }
+            node = i < 0 ? node.getRight() : node.getLeft();
         }
+        return null;
     }
 
     /**
@@ -264,96 +342,109 @@ public class BST<T extends Comparable<? super T>> {
      * @return a preorder traversal of the tree
      */
     public List<T> preorder() {
-        List<T> list = new ArrayList<>();
-        preorderHelper(root, list);
-        return list;
+        return toList(preorderIterator());
     }
 
     /**
-     * private helper method to preorderly traversal
-     * @param node start from
-     * @param list we will return in public method
+     * Should run in O(n).
+     *
+     * @return an inorder traversal of the tree
      */
-    private void preorderHelper(BSTNode<T> node, List<T> list) {
-        if (node != null) {
-            list.add(node.getData());
-            preorderHelper(node.getLeft(), list);
-            preorderHelper(node.getRight(), list);
-        }
+    public List<T> inorder() {
+        return toList(inorderIterator());
     }
 
     /**
      * Should run in O(n).
      *
-     * @return an inorder traversal of the tree
+     * @return a postorder traversal of the tree
      */
-    public List<T> inorder() {
-        List<T> list = new ArrayList<>();
-        inorderHelper(root, list);
-        return list;
+    public List<T> postorder() {
+        return toList(postorderIterator());
     }
 
     /**
-     * recursively complete inorder traversal
-     * @param node start from
-     * @param list we want to complete
+     * Generate a level-order traversal of the tree.
+     *
+     * Should run in O(n).
+     *
+     * @return a level order traversal of the tree
      */
-    private void inorderHelper(BSTNode<T> node, List<T> list) {
-        if (node != null) {
-            inorderHelper(node.getLeft(), list);
-            list.add(node.getData());
-            inorderHelper(node.getRight(), list);
-        }
+    public List<T> levelorder() {
+        return toList(levelorderIterator());
     }
 
     /**
-     * Should run in O(n).
+     * Returns a lazy preorder iterator. It uses O(h) memory, and each call
+     * to next is amortized O(1). The tree must not be modified while the
+     * iterator is in use.
      *
-     * @return a postorder traversal of the tree
+     * @return the iterator
      */
-    public List<T> postorder() {
-        List<T> list = new ArrayList<>();
-        postorderHelper(root, list);
-        return list;
+    public Iterator<T> preorderIterator() {
+        return new BSTPreorderIterator<>(root);
     }
 
     /**
-     * recursively do postorder
-     * @param node do postorder from
-     * @param list return from public method
+     * Returns a lazy inorder iterator, yielding the data in ascending
+     * order. It uses O(h) memory, and each call to next is amortized O(1).
+     * The tree must not be modified while the iterator is in use.
+     *
+     * @return the iterator
      */
-    private void postorderHelper(BSTNode<T> node, List<T> list) {
-        if (node != null) {
-            postorderHelper(node.getLeft(), list);
-            postorderHelper(node.getRight(), list);
-            list.add(node.getData());
-        }
+    public Iterator<T> inorderIterator() {
+        return new BSTInorderIterator<>(root, null, null);
     }
 
     /**
-     * Generate a level-order traversal of the tree.
+     * Returns a lazy postorder iterator. It uses O(h) memory, and each call
+     * to next is amortized O(1). The tree must not be modified while the
+     * iterator is in use.
      *
-     * To do this, add the root node to a queue. Then, while the queue isn't
-     * empty, remove one node, add its data to the list being returned, and add
-     * its left and right child nodes to the queue. If what you just removed is
-     * {@code null}, ignore it and continue with the rest of the nodes.
+     * @return the iterator
+     */
+    public Iterator<T> postorderIterator() {
+        return new BSTPostorderIterator<>(root);
+    }
+
+    /**
+     * Returns a lazy level-order iterator. Its memory is bounded by the
+     * width of the tree. The tree must not be modified while the iterator
+     * is in use.
      *
-     * Should run in O(n).
+     * @return the iterator
+     */
+    public Iterator<T> levelorderIterator() {
+        return new BSTLevelorderIterator<>(root);
+    }
+
+    /**
+     * Returns a lazy iterator over the data between lo and hi, both
+     * inclusive, in ascending order. Subtrees outside the bounds are
+     * pruned, so iterating over k results visits O(h + k) nodes. The tree
+     * must not be modified while the iterator is in use.
      *
-     * @return a level order traversal of the tree
+     * @throws IllegalArgumentException if lo or hi is null
+     * @param lo the smallest data to return
+     * @param hi the largest data to return
+     * @return the iterator, empty if lo is greater than hi
      */
-    public List<T> levelorder() {
-        List<T> list = new ArrayList<>();
-        Queue<BSTNode<T>> queueForNode = new LinkedList<>();
-        queueForNode.add(root);
-        while (queueForNode.peek() != null) {
-            BSTNode<T> temp = queueForNode.poll();
-            list.add(temp.getData());
-            boolean addL = temp.getLeft() != null
-                    ? queueForNode.add(temp.getLeft()) : false;
-            boolean addR = temp.getRight() != null
-                    ? queueForNode.add(temp.getRight()) : false;
+    public Iterator<T> range(T lo, T hi) {
+        if (lo == null || hi == null) {
+            throw new IllegalArgumentException("bounds cannot be null");
         }
+        return new BSTInorderIterator<>(lo.compareTo(hi) > 0 ? null : root,
+                lo, hi);
+    }
+
+    /**
+     * private helper to drain an iterator into a list
+     * @param iterator the iterator to drain
+     * @return a list of the data in iteration order
+     */
+    private List<T> toList(Iterator<T> iterator) {
+        List<T> list = new ArrayList<>(size);
+        iterator.forEachRemaining(list::add);
         return list;
     }
 
@@ -372,28 +463,30 @@ public class BST<T extends Comparable<? super T>> {
      * height is defined as {@code max(left.height, right.height) + 1}. A leaf
      * node has a height of 0 and a null child should be -1.
      *
-     * Should be calculated in O(n).
+     * Should be calculated in O(n). Counts the levels of a level-order
+     * walk, so a degenerate tree cannot overflow the stack.
      *
      * @return the height of the root of the tree, -1 if the tree is empty
      */
     public int height() {
-        if (root == null) {
-            return -1;
+        int height = -1;
+        Queue<BSTNode<T>> level = new ArrayDeque<>();
+        if (root != null) {
+            level.add(root);
         }
-        return heightHelper(root);
-    }
-
-    /**
-     * the helper method to get node's height recursively
-     * @param node the node passed in to find height
-     * @return the height of the node
-     */
-    private int heightHelper(BSTNode<T> node) {
-        int left = node.getLeft() == null ? -1
-                : heightHelper(node.getLeft());
-        int right = node.getRight() == null ? -1
-                : heightHelper(node.getRight());
-        return 1 + Math.max(left, right);
+        while (!level.isEmpty()) {
+            height++;
+            for (int i = level.size(); i > 0; i--) {
+                BSTNode<T> node = level.poll();
+                if (node.getLeft() != null) {
+                    level.add(node.getLeft());
+                }
+                if (node.getRight() != null) {
+                    level.add(node.getRight());
+                }
+            }
+        }
+        return height;
     }
 
     /**
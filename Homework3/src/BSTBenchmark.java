@@ -0,0 +1,178 @@
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * Benchmark for BST add, contains, get and remove with keys inserted in
+ * sorted order, which degenerates the tree into a list, and in random
+ * order. java.util.TreeMap, a red-black tree, runs the same workload as a
+ * balanced reference.
+ *
+ * The sorted workload is quadratic for BST, so it uses a smaller key count
+ * by default; it is still deep enough to have overflowed the stack with
+ * the former recursive methods.
+ *
+ * Run with {@code java BSTBenchmark [sortedN] [randomN] [rounds]}.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class BSTBenchmark {
+
+    /**
+     * Runs the benchmark and prints the mean time per operation.
+     *
+     * @param args optional key counts for both orders and number of rounds
+     */
+    public static void main(String[] args) {
+        int sortedN = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        int randomN = args.length > 1 ? Integer.parseInt(args[1]) : 1000000;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        Integer[] sorted = new Integer[sortedN];
+        for (int i = 0; i < sortedN; i++) {
+            sorted[i] = i;
+        }
+        Integer[] shuffled = new Integer[randomN];
+        for (int i = 0; i < randomN; i++) {
+            shuffled[i] = i;
+        }
+        Random random = new Random(1332);
+        for (int i = randomN - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Integer swap = shuffled[i];
+            shuffled[i] = shuffled[j];
+            shuffled[j] = swap;
+        }
+        System.out.printf("%-8s %-8s %10s %10s %10s %10s %7s%n", "order",
+                "tree", "add ns", "contains", "get ns", "remove", "height");
+        for (int round = 0; round < rounds; round++) {
+            runBST("sorted", sorted);
+            runTreeMap("sorted", sorted);
+            runBST("random", shuffled);
+            runTreeMap("random", shuffled);
+        }
+    }
+
+    /**
+     * Times each operation over all keys on a BST and prints one line.
+     *
+     * @param order the name of the insert order
+     * @param keys the keys in insert order
+     */
+    private static void runBST(String order, Integer[] keys) {
+        BST<Integer> bst = new BST<>();
+        long start = System.nanoTime();
+        for (Integer key : keys) {
+            bst.add(key);
+        }
+        double add = perKey(start, keys);
+        int height = bst.height();
+
+        long hits = 0;
+        start = System.nanoTime();
+        for (Integer key : keys) {
+            if (bst.contains(key)) {
+                hits++;
+            }
+        }
+        double contains = perKey(start, keys);
+
+        start = System.nanoTime();
+        for (Integer key : keys) {
+            hits += bst.get(key);
+        }
+        double get = perKey(start, keys);
+
+        start = System.nanoTime();
+        for (Integer key : keys) {
+            hits += bst.remove(key);
+        }
+        double remove = perKey(start, keys);
+        check(hits, keys);
+        print(order, "BST", add, contains, get, remove, height);
+    }
+
+    /**
+     * Times each operation over all keys on a TreeMap and prints one line.
+     *
+     * @param order the name of the insert order
+     * @param keys the keys in insert order
+     */
+    private static void runTreeMap(String order, Integer[] keys) {
+        TreeMap<Integer, Integer> map = new TreeMap<>();
+        long start = System.nanoTime();
+        for (Integer key : keys) {
+            map.putIfAbsent(key, key);
+        }
+        double add = perKey(start, keys);
+
+        long hits = 0;
+        start = System.nanoTime();
+        for (Integer key : keys) {
+            if (map.containsKey(key)) {
+                hits++;
+            }
+        }
+        double contains = perKey(start, keys);
+
+        start = System.nanoTime();
+        for (Integer key : keys) {
+            hits += map.get(key);
+        }
+        double get = perKey(start, keys);
+
+        start = System.nanoTime();
+        for (Integer key : keys) {
+            hits += map.remove(key);
+        }
+        double remove = perKey(start, keys);
+        check(hits, keys);
+        print(order, "TreeMap", add, contains, get, remove, -1);
+    }
+
+    /**
+     * Returns the mean time per key since start.
+     *
+     * @param start the start time in ns
+     * @param keys the keys that were processed
+     * @return the mean time per key in ns
+     */
+    private static double perKey(long start, Integer[] keys) {
+        return (double) (System.nanoTime() - start) / keys.length;
+    }
+
+    /**
+     * Checks the checksum of the timed loops: every key is found once by
+     * contains, and returned once by get and once by remove.
+     *
+     * @param checksum the checksum of the timed loops
+     * @param keys the keys that were processed
+     * @throws IllegalStateException if the checksum is wrong
+     */
+    private static void check(long checksum, Integer[] keys) {
+        long expected = keys.length;
+        for (Integer key : keys) {
+            expected += 2L * key;
+        }
+        if (checksum != expected) {
+            throw new IllegalStateException("checksum mismatch");
+        }
+    }
+
+    /**
+     * Prints one result line.
+     *
+     * @param order the name of the insert order
+     * @param tree the name of the tree
+     * @param add the mean add time in ns
+     * @param contains the mean contains time in ns
+     * @param get the mean get time in ns
+     * @param remove the mean remove time in ns
+     * @param height the height after all adds, -1 if unknown
+     */
+    private static void print(String order, String tree, double add,
+            double contains, double get, double remove, int height) {
+        System.out.printf("%-8s %-8s %10.1f %10.1f %10.1f %10.1f %7s%n",
+                order, tree, add, contains, get, remove,
+                height < 0 ? "-" : String.valueOf(height));
+    }
+}
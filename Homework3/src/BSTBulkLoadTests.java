@@ -0,0 +1,96 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the balanced bulk load and addAll of BST.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class BSTBulkLoadTests {
+    private List<Integer> sorted;
+
+    public static final int TIMEOUT = 5000;
+
+    @Before
+    public void setup() {
+        sorted = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            sorted.add(i);
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSortedInputIsPerfectlyBalanced() {
+        BST<Integer> bst = BST.balanced(sorted);
+        assertEquals(100000, bst.size());
+        assertEquals(16, bst.height());
+        assertEquals(sorted, bst.inorder());
+        assertEquals((Integer) 49999, bst.getRoot().getData());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testUnsortedInputWithDuplicates() {
+        List<Integer> data = new ArrayList<>(sorted);
+        data.addAll(sorted.subList(0, 1000));
+        Collections.shuffle(data, new Random(1332));
+        BST<Integer> bst = BST.balanced(data);
+        assertEquals(100000, bst.size());
+        assertEquals(16, bst.height());
+        assertEquals(sorted, bst.inorder());
+        assertTrue(BST.balanced(new ArrayList<Integer>()).getRoot() == null);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAllMergesWithExistingTree() {
+        BST<Integer> bst = new BST<>();
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(1332);
+        for (int i = 0; i < 1000; i++) {
+            int key = random.nextInt(5000);
+            bst.add(key);
+            expected.add(key);
+        }
+        List<Integer> more = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            more.add(random.nextInt(5000));
+        }
+        bst.addAll(more);
+        expected.addAll(more);
+        assertEquals(expected.size(), bst.size());
+        assertEquals(new ArrayList<>(expected), bst.inorder());
+        int height = 32 - Integer.numberOfLeadingZeros(expected.size()) - 1;
+        assertEquals(height, bst.height());
+        bst.add(-1);
+        assertEquals((Integer) (-1), bst.inorder().get(0));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testExistingAndFirstInstancesAreKept() {
+        BST<String> bst = new BST<>();
+        String stored = new String("b");
+        bst.add(stored);
+        String firstC = new String("c");
+        bst.addAll(Arrays.asList("a", new String("b"), firstC,
+                new String("c")));
+        assertSame(stored, bst.get("b"));
+        assertSame(firstC, bst.get("c"));
+        assertEquals(3, bst.size());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testNullElement() {
+        BST.balanced(Arrays.asList(1, null, 3));
+    }
+}
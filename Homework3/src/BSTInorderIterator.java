@@ -0,0 +1,73 @@
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazy in-order iterator used by BST, optionally limited to the data
+ * between two inclusive bounds. It keeps the path of pending ancestors on
+ * an explicit stack, so it uses O(h) memory and never recurses.
+ *
+ * With bounds, subtrees entirely below {@code lo} are never pushed and the
+ * iteration stops at the first data above {@code hi}, so a range scan
+ * visits O(h + k) nodes for k results.
+ *
+ * The tree must not be modified while the iterator is in use.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class BSTInorderIterator<T extends Comparable<? super T>>
+        implements Iterator<T> {
+    private final Deque<BSTNode<T>> stack = new ArrayDeque<>();
+    private final T lo;
+    private final T hi;
+
+    /**
+     * Creates a new iterator over the subtree rooted at root.
+     *
+     * @param root the root of the subtree, null for an empty one
+     * @param lo the smallest data to return, null for no lower bound
+     * @param hi the largest data to return, null for no upper bound
+     */
+    public BSTInorderIterator(BSTNode<T> root, T lo, T hi) {
+        this.lo = lo;
+        this.hi = hi;
+        pushLeftPath(root);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !stack.isEmpty()
+                && (hi == null || stack.peek().getData().compareTo(hi) <= 0);
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("no more data in range");
+        }
+        BSTNode<T> node = stack.pop();
+        pushLeftPath(node.getRight());
+        return node.getData();
+    }
+
+    /**
+     * Pushes the path from node down its left spine, skipping every node
+     * below the lower bound together with its left subtree.
+     *
+     * @param node the node to start from
+     */
+    private void pushLeftPath(BSTNode<T> node) {
+        while (node != null) {
+            if (lo != null && node.getData().compareTo(lo) < 0) {
+                node = node.getRight();
+            } else {
+                stack.push(node);
+                node = node.getLeft();
+            }
+        }
+    }
+}
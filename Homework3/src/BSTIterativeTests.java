@@ -0,0 +1,107 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the iterative add, remove, get, contains and height of BST,
+ * including trees too deep for the old recursive versions.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class BSTIterativeTests {
+    private BST<Integer> bst;
+
+    public static final int TIMEOUT = 10000;
+
+    @Before
+    public void setup() {
+        bst = new BST<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSortedInsertDoesNotOverflow() {
+        int n = 20000;
+        for (int i = 0; i < n; i++) {
+            bst.add(i);
+        }
+        assertEquals(n, bst.size());
+        assertEquals(n - 1, bst.height());
+        assertTrue(bst.contains(n - 1));
+        assertFalse(bst.contains(n));
+        assertEquals((Integer) (n - 1), bst.get(n - 1));
+        for (int i = n - 1; i >= 0; i -= 2) {
+            assertEquals((Integer) i, bst.remove(i));
+        }
+        assertEquals(n / 2, bst.size());
+        assertFalse(bst.contains(n - 1));
+        assertTrue(bst.contains(n - 2));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMatchesTreeSetUnderRandomOperations() {
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(1332);
+        for (int i = 0; i < 20000; i++) {
+            int key = random.nextInt(500);
+            int op = random.nextInt(3);
+            if (op == 0) {
+                expected.add(key);
+                bst.add(key);
+            } else if (op == 1) {
+                if (expected.remove(key)) {
+                    assertEquals((Integer) key, bst.remove(key));
+                } else {
+                    assertFalse(bst.contains(key));
+                }
+            } else {
+                assertEquals(expected.contains(key), bst.contains(key));
+            }
+            assertEquals(expected.size(), bst.size());
+        }
+        assertEquals(new ArrayList<>(expected), bst.inorder());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGetAndRemoveReturnStoredData() {
+        BST<String> strings = new BST<>();
+        String stored = new String("beta");
+        strings.add("alpha");
+        strings.add(stored);
+        strings.add("gamma");
+        strings.add("delta");
+        assertSame(stored, strings.get(new String("beta")));
+        assertSame(stored, strings.remove(new String("beta")));
+        assertEquals("gamma", strings.getRoot().getRight().getData());
+        assertEquals("delta", strings.getRoot().getRight().getLeft()
+                .getData());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveRootWithTwoChildren() {
+        int[] keys = {50, 30, 70, 60, 80, 65};
+        for (int key : keys) {
+            bst.add(key);
+        }
+        assertEquals((Integer) 50, bst.remove(50));
+        assertEquals((Integer) 60, bst.getRoot().getData());
+        assertEquals((Integer) 65, bst.getRoot().getRight().getLeft()
+                .getData());
+        assertEquals(2, bst.height());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testHeightOfEmptyAndSingleton() {
+        assertEquals(-1, bst.height());
+        bst.add(1);
+        assertEquals(0, bst.height());
+    }
+}
@@ -0,0 +1,138 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the lazy traversal iterators and range scans of BST.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class BSTIteratorTests {
+    private BST<Integer> bst;
+    private TreeSet<Integer> expected;
+
+    public static final int TIMEOUT = 5000;
+
+    @Before
+    public void setup() {
+        bst = new BST<>();
+        expected = new TreeSet<>();
+        Random random = new Random(1332);
+        for (int i = 0; i < 300; i++) {
+            int key = random.nextInt(1000);
+            bst.add(key);
+            expected.add(key);
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testTraversalsMatchRecursiveDefinitions() {
+        List<Integer> pre = new ArrayList<>();
+        List<Integer> in = new ArrayList<>();
+        List<Integer> post = new ArrayList<>();
+        walk(bst.getRoot(), pre, in, post);
+        assertEquals(pre, drain(bst.preorderIterator()));
+        assertEquals(in, drain(bst.inorderIterator()));
+        assertEquals(post, drain(bst.postorderIterator()));
+        assertEquals(new ArrayList<>(expected), bst.inorder());
+        assertEquals(pre, bst.preorder());
+        assertEquals(post, bst.postorder());
+        assertEquals(bst.getRoot().getData(), bst.levelorder().get(0));
+        assertEquals(expected.size(), bst.levelorder().size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRangeMatchesSubSet() {
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            int lo = random.nextInt(1100) - 50;
+            int hi = lo + random.nextInt(300);
+            assertEquals(new ArrayList<>(expected.subSet(lo, true, hi, true)),
+                    drain(bst.range(lo, hi)));
+        }
+        assertFalse(bst.range(10, 5).hasNext());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEarlyTerminationOnDeepTree() {
+        bst = new BST<>();
+        for (int i = 0; i < 20000; i++) {
+            bst.add(i);
+        }
+        Iterator<Integer> inorder = bst.inorderIterator();
+        for (int i = 0; i < 5; i++) {
+            assertEquals((Integer) i, inorder.next());
+        }
+        Iterator<Integer> range = bst.range(19990, 30000);
+        for (int i = 19990; i < 20000; i++) {
+            assertEquals((Integer) i, range.next());
+        }
+        assertFalse(range.hasNext());
+        assertEquals(20000, bst.postorder().size());
+        assertEquals((Integer) 19999, bst.postorder().get(0));
+        assertEquals((Integer) 0, bst.preorder().get(0));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEmptyTree() {
+        bst = new BST<>();
+        assertFalse(bst.inorderIterator().hasNext());
+        assertFalse(bst.preorderIterator().hasNext());
+        assertFalse(bst.postorderIterator().hasNext());
+        assertFalse(bst.levelorderIterator().hasNext());
+        assertTrue(bst.levelorder().isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testNextPastEnd() {
+        Iterator<Integer> range = bst.range(-5, -1);
+        range.next();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testRangeNullBound() {
+        bst.range(null, 5);
+    }
+
+    /**
+     * Collects the recursive traversals of a small tree.
+     *
+     * @param node the root of the subtree
+     * @param pre receives the preorder
+     * @param in receives the inorder
+     * @param post receives the postorder
+     */
+    private static void walk(BSTNode<Integer> node, List<Integer> pre,
+            List<Integer> in, List<Integer> post) {
+        if (node != null) {
+            pre.add(node.getData());
+            walk(node.getLeft(), pre, in, post);
+            in.add(node.getData());
+            walk(node.getRight(), pre, in, post);
+            post.add(node.getData());
+        }
+    }
+
+    /**
+     * Drains an iterator into a list.
+     *
+     * @param iterator the iterator
+     * @return the data in iteration order
+     */
+    private static List<Integer> drain(Iterator<Integer> iterator) {
+        List<Integer> list = new ArrayList<>();
+        iterator.forEachRemaining(list::add);
+        return list;
+    }
+}
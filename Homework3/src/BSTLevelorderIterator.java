@@ -0,0 +1,52 @@
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+
+/**
+ * Lazy level-order iterator used by BST. Nodes wait in a queue, which
+ * holds the rest of the current level and the start of the next one, so
+ * memory is bounded by the width of the tree.
+ *
+ * The tree must not be modified while the iterator is in use.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class BSTLevelorderIterator<T extends Comparable<? super T>>
+        implements Iterator<T> {
+    private final Queue<BSTNode<T>> queue = new ArrayDeque<>();
+
+    /**
+     * Creates a new iterator over the subtree rooted at root.
+     *
+     * @param root the root of the subtree, null for an empty one
+     */
+    public BSTLevelorderIterator(BSTNode<T> root) {
+        if (root != null) {
+            queue.add(root);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !queue.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        if (queue.isEmpty()) {
+            throw new NoSuchElementException("no more data");
+        }
+        BSTNode<T> node = queue.poll();
+        if (node.getLeft() != null) {
+            queue.add(node.getLeft());
+        }
+        if (node.getRight() != null) {
+            queue.add(node.getRight());
+        }
+        return node.getData();
+    }
+}
@@ -0,0 +1,62 @@
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazy postorder iterator used by BST. The stack holds the path from the
+ * root to the next node to return; after returning a left child, the
+ * iterator descends to the first postorder node of its sibling. It uses
+ * O(h) memory and never recurses.
+ *
+ * The tree must not be modified while the iterator is in use.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class BSTPostorderIterator<T extends Comparable<? super T>>
+        implements Iterator<T> {
+    private final Deque<BSTNode<T>> stack = new ArrayDeque<>();
+
+    /**
+     * Creates a new iterator over the subtree rooted at root.
+     *
+     * @param root the root of the subtree, null for an empty one
+     */
+    public BSTPostorderIterator(BSTNode<T> root) {
+        pushFirstLeafPath(root);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !stack.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        if (stack.isEmpty()) {
+            throw new NoSuchElementException("no more data");
+        }
+        BSTNode<T> node = stack.pop();
+        if (!stack.isEmpty() && stack.peek().getLeft() == node) {
+            pushFirstLeafPath(stack.peek().getRight());
+        }
+        return node.getData();
+    }
+
+    /**
+     * Pushes the path from node to the first node of its subtree in
+     * postorder, preferring left children and taking right children only
+     * where there is no left one.
+     *
+     * @param node the node to start from
+     */
+    private void pushFirstLeafPath(BSTNode<T> node) {
+        while (node != null) {
+            stack.push(node);
+            node = node.getLeft() != null ? node.getLeft() : node.getRight();
+        }
+    }
+}
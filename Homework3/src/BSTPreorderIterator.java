@@ -0,0 +1,51 @@
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazy preorder iterator used by BST. Pending right subtrees wait on an
+ * explicit stack, so it uses O(h) memory and never recurses.
+ *
+ * The tree must not be modified while the iterator is in use.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class BSTPreorderIterator<T extends Comparable<? super T>>
+        implements Iterator<T> {
+    private final Deque<BSTNode<T>> stack = new ArrayDeque<>();
+
+    /**
+     * Creates a new iterator over the subtree rooted at root.
+     *
+     * @param root the root of the subtree, null for an empty one
+     */
+    public BSTPreorderIterator(BSTNode<T> root) {
+        if (root != null) {
+            stack.push(root);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !stack.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        if (stack.isEmpty()) {
+            throw new NoSuchElementException("no more data");
+        }
+        BSTNode<T> node = stack.pop();
+        if (node.getRight() != null) {
+            stack.push(node.getRight());
+        }
+        if (node.getLeft() != null) {
+            stack.push(node.getLeft());
+        }
+        return node.getData();
+    }
+}
@@ -0,0 +1,295 @@
+import java.util.NoSuchElementException;
+
+/**
+ * A binary search tree whose nodes also store the size of their subtree,
+ * so that order statistics can be answered along a single root-to-leaf
+ * path: the k-th smallest data, the rank of a value, and the number of
+ * data in a range all take O(h) time instead of an O(n) inorder list.
+ *
+ * add and remove keep the sizes up to date on the way down, after first
+ * checking whether the tree will actually change. Like BST, every
+ * operation walks the tree in a loop, so deep trees cannot overflow the
+ * stack, and the shapes match those BST builds for the same operations.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class OrderStatisticBST<T extends Comparable<? super T>> {
+    private OrderStatisticNode<T> root;
+
+    /**
+     * Adds the data as a leaf if it is not in the tree yet.
+     *
+     * Should have a running time of O(log n) for a balanced tree, and a
+     * worst case of O(n).
+     *
+     * @throws IllegalArgumentException if the data is null
+     * @param data the data to be added
+     */
+    public void add(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("The added data cannot be null");
+        }
+        if (root == null) {
+            root = new OrderStatisticNode<>(data);
+            return;
+        }
+        if (find(data) != null) {
+            return;
+        }
+        OrderStatisticNode<T> curr = root;
+        while (true) {
+            curr.setSize(curr.getSize() + 1);
+            if (curr.getData().compareTo(data) > 0) {
+                if (curr.getLeft() == null) {
+                    curr.setLeft(new OrderStatisticNode<>(data));
+                    return;
+                }
+                curr = curr.getLeft();
+            } else {
+                if (curr.getRight() == null) {
+                    curr.setRight(new OrderStatisticNode<>(data));
+                    return;
+                }
+                curr = curr.getRight();
+            }
+        }
+    }
+
+    /**
+     * Removes the data from the tree, replacing a node with two children by
+     * its successor.
+     *
+     * Should have a running time of O(log n) for a balanced tree, and a
+     * worst case of O(n).
+     *
+     * @throws IllegalArgumentException if the data is null
+     * @throws java.util.NoSuchElementException if the data is not found
+     * @param data the data to remove from the tree
+     * @return the data that was stored in the tree
+     */
+    public T remove(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "The data you want to remove cannot be null.");
+        }
+        if (find(data) == null) {
+            throw new NoSuchElementException("The data is not found");
+        }
+        OrderStatisticNode<T> parent = null;
+        OrderStatisticNode<T> curr = root;
+        while (true) {
+            curr.setSize(curr.getSize() - 1);
+            int i = curr.getData().compareTo(data);
+            if (i == 0) {
+                break;
+            }
+            parent = curr;
+            curr = i < 0 ? curr.getRight() : curr.getLeft();
+        }
+        T removed = curr.getData();
+        if (curr.getLeft() != null && curr.getRight() != null) {
+            OrderStatisticNode<T> succParent = curr;
+            OrderStatisticNode<T> succ = curr.getRight();
+            while (succ.getLeft() != null) {
+                succ.setSize(succ.getSize() - 1);
+                succParent = succ;
+                succ = succ.getLeft();
+            }
+            curr.setData(succ.getData());
+            if (succParent == curr) {
+                succParent.setRight(succ.getRight());
+            } else {
+                succParent.setLeft(succ.getRight());
+            }
+        } else {
+            OrderStatisticNode<T> child = curr.getLeft() != null
+                    ? curr.getLeft() : curr.getRight();
+            if (parent == null) {
+                root = child;
+            } else if (parent.getLeft() == curr) {
+                parent.setLeft(child);
+            } else {
+                parent.setRight(child);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the data in the tree equal to the parameter.
+     *
+     * @throws IllegalArgumentException if the data is null
+     * @throws java.util.NoSuchElementException if the data is not found
+     * @param data the data to search for
+     * @return the data stored in the tree
+     */
+    public T get(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        OrderStatisticNode<T> node = find(data);
+        if (node == null) {
+            throw new NoSuchElementException("data is not found in this tree");
+        }
+        return node.getData();
+    }
+
+    /**
+     * Returns whether data equal to the parameter is in the tree.
+     *
+     * @throws IllegalArgumentException if the data is null
+     * @param data the data to search for
+     * @return whether the data is in the tree
+     */
+    public boolean contains(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        return find(data) != null;
+    }
+
+    /**
+     * Returns the k-th smallest data in the tree, counting from 0.
+     *
+     * Runs in O(h).
+     *
+     * @throws IndexOutOfBoundsException if k is not in [0, size)
+     * @param k the rank of the data to return
+     * @return the data of rank k
+     */
+    public T select(int k) {
+        if (k < 0 || k >= size()) {
+            throw new IndexOutOfBoundsException("k " + k
+                    + " is out of bounds for size " + size());
+        }
+        OrderStatisticNode<T> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.getLeft());
+            if (k < leftSize) {
+                node = node.getLeft();
+            } else if (k == leftSize) {
+                return node.getData();
+            } else {
+                k -= leftSize + 1;
+                node = node.getRight();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of data in the tree smaller than the parameter,
+     * which is the rank the parameter has or would have in the tree.
+     *
+     * Runs in O(h).
+     *
+     * @throws IllegalArgumentException if the data is null
+     * @param data the data to rank, which need not be in the tree
+     * @return the number of smaller data
+     */
+    public int rank(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        return countBelow(data, false);
+    }
+
+    /**
+     * Returns the number of data in the tree between lo and hi, both
+     * inclusive.
+     *
+     * Runs in O(h).
+     *
+     * @throws IllegalArgumentException if lo or hi is null
+     * @param lo the lower bound
+     * @param hi the upper bound
+     * @return the number of data in range, 0 if lo is greater than hi
+     */
+    public int countInRange(T lo, T hi) {
+        if (lo == null || hi == null) {
+            throw new IllegalArgumentException("bounds cannot be null");
+        }
+        if (lo.compareTo(hi) > 0) {
+            return 0;
+        }
+        return countBelow(hi, true) - countBelow(lo, false);
+    }
+
+    /**
+     * Counts the data smaller than, or optionally equal to, the parameter
+     * by summing left subtree sizes along its search path.
+     *
+     * @param data the bound
+     * @param inclusive whether data equal to the bound counts
+     * @return the number of data below the bound
+     */
+    private int countBelow(T data, boolean inclusive) {
+        int count = 0;
+        OrderStatisticNode<T> node = root;
+        while (node != null) {
+            int i = node.getData().compareTo(data);
+            if (i < 0 || (i == 0 && inclusive)) {
+                count += sizeOf(node.getLeft()) + 1;
+                node = node.getRight();
+            } else {
+                node = node.getLeft();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Finds the node holding data equal to the parameter.
+     *
+     * @param data the data to search for
+     * @return the node, null if there is none
+     */
+    private OrderStatisticNode<T> find(T data) {
+        OrderStatisticNode<T> node = root;
+        while (node != null) {
+            int i = node.getData().compareTo(data);
+            if (i == 0) {
+                return node;
+            }
+            node = i < 0 ? node.getRight() : node.getLeft();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the subtree size of a possibly null node.
+     *
+     * @param node the node
+     * @return its subtree size, 0 for null
+     */
+    private int sizeOf(OrderStatisticNode<T> node) {
+        return node == null ? 0 : node.getSize();
+    }
+
+    /**
+     * Clears the tree.
+     */
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * Returns the number of data in the tree, the subtree size of the root.
+     *
+     * @return the size of the tree
+     */
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns the root of the tree, for testing.
+     *
+     * @return the root of the tree
+     */
+    public OrderStatisticNode<T> getRoot() {
+        return root;
+    }
+}
@@ -0,0 +1,100 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for OrderStatisticBST against a sorted TreeSet.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class OrderStatisticBSTTests {
+    private OrderStatisticBST<Integer> tree;
+
+    public static final int TIMEOUT = 5000;
+
+    @Before
+    public void setup() {
+        tree = new OrderStatisticBST<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSelectRankAndCountMatchTreeSet() {
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(1332);
+        for (int i = 0; i < 5000; i++) {
+            int key = random.nextInt(400);
+            if (random.nextInt(3) == 0) {
+                if (expected.remove(key)) {
+                    assertEquals((Integer) key, tree.remove(key));
+                }
+            } else {
+                expected.add(key);
+                tree.add(key);
+            }
+            assertEquals(expected.size(), tree.size());
+            if (i % 50 == 0) {
+                assertStatistics(expected);
+            }
+        }
+        assertStatistics(expected);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSubtreeSizesAfterTwoChildRemove() {
+        int[] keys = {50, 30, 70, 60, 80, 65, 20};
+        for (int key : keys) {
+            tree.add(key);
+        }
+        tree.add(60);
+        assertEquals(7, tree.size());
+        assertEquals((Integer) 50, tree.remove(50));
+        assertEquals((Integer) 60, tree.getRoot().getData());
+        assertEquals(6, tree.getRoot().getSize());
+        assertEquals(2, tree.getRoot().getLeft().getSize());
+        assertEquals(3, tree.getRoot().getRight().getSize());
+        assertEquals(1, tree.getRoot().getRight().getLeft().getSize());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDegenerateTree() {
+        for (int i = 0; i < 20000; i++) {
+            tree.add(i);
+        }
+        assertEquals((Integer) 12345, tree.select(12345));
+        assertEquals(12345, tree.rank(12345));
+        assertEquals(101, tree.countInRange(100, 200));
+        assertEquals(0, tree.countInRange(200, 100));
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testSelectOutOfBounds() {
+        tree.add(1);
+        tree.select(1);
+    }
+
+    /**
+     * Checks select, rank and countInRange against the expected set.
+     *
+     * @param expected the data that should be in the tree
+     */
+    private void assertStatistics(TreeSet<Integer> expected) {
+        List<Integer> sorted = new ArrayList<>(expected);
+        for (int k = 0; k < sorted.size(); k++) {
+            assertEquals(sorted.get(k), tree.select(k));
+        }
+        for (int x = -1; x <= 401; x += 7) {
+            assertEquals(expected.headSet(x).size(), tree.rank(x));
+            for (int width = 0; width < 60; width += 13) {
+                assertEquals(expected.subSet(x, true, x + width, true).size(),
+                        tree.countInRange(x, x + width));
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * This class represents a node in OrderStatisticBST. Besides its data and
+ * children, it stores the number of nodes in its subtree.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class OrderStatisticNode<T extends Comparable<? super T>> {
+    private T data;
+    private OrderStatisticNode<T> left;
+    private OrderStatisticNode<T> right;
+    private int size;
+
+    /**
+     * Create a leaf node with the specified data and a subtree size of 1.
+     *
+     * @param data the data to be stored in this node
+     */
+    public OrderStatisticNode(T data) {
+        this.data = data;
+        this.size = 1;
+    }
+
+    /**
+     * Get the data in this node.
+     *
+     * @return data in this node
+     */
+    public T getData() {
+        return data;
+    }
+
+    /**
+     * Set the data in this node.
+     *
+     * @param data data to store in this node
+     */
+    public void setData(T data) {
+        this.data = data;
+    }
+
+    /**
+     * Get the node to the left of this node.
+     *
+     * @return node to the left of this node
+     */
+    public OrderStatisticNode<T> getLeft() {
+        return left;
+    }
+
+    /**
+     * Set the node to the left of this node.
+     *
+     * @param left node to the left of this node
+     */
+    public void setLeft(OrderStatisticNode<T> left) {
+        this.left = left;
+    }
+
+    /**
+     * Get the node to the right of this node.
+     *
+     * @return node to the right of this node
+     */
+    public OrderStatisticNode<T> getRight() {
+        return right;
+    }
+
+    /**
+     * Set the node to the right of this node.
+     *
+     * @param right node to the right of this node
+     */
+    public void setRight(OrderStatisticNode<T> right) {
+        this.right = right;
+    }
+
+    /**
+     * Get the number of nodes in the subtree rooted at this node.
+     *
+     * @return the subtree size of this node
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Set the number of nodes in the subtree rooted at this node.
+     *
+     * @param size the new subtree size of this node
+     */
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    @Override
+    public String toString() {
+        return "Node containing: " + data + " (subtree size " + size + ")";
+    }
+}
@@ -0,0 +1,370 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A persistent AVL tree built from immutable PersistentNodes. An update
+ * never changes an existing node: insert and delete copy only the nodes on
+ * the search path, rebalancing each copy on the way back up, and return a
+ * new root that shares every other subtree with the old one. A rotation
+ * only rebuilds the nodes whose children change, so an update allocates
+ * O(log n) new nodes whatever the insertion order, and every old root is
+ * still a complete, valid version of the tree.
+ *
+ * The current version is published through an AtomicReference. Writers
+ * build a new version off the side and install it with compareAndSet,
+ * retrying if another writer got there first, so writers never lock and
+ * readers never block: a reader loads the root once and then works on a
+ * version nobody can change. snapshot() takes such a version in O(1).
+ *
+ * Like BST, every operation walks the tree in a loop rather than
+ * recursing.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class PersistentBST<T extends Comparable<? super T>> {
+    private final AtomicReference<PersistentNode<T>> root;
+
+    /**
+     * Constructs an empty tree.
+     */
+    public PersistentBST() {
+        this(null);
+    }
+
+    /**
+     * Constructs a tree whose current version is the given root.
+     *
+     * @param root the root of the initial version, may be null
+     */
+    private PersistentBST(PersistentNode<T> root) {
+        this.root = new AtomicReference<>(root);
+    }
+
+    /**
+     * Adds the data to the current version if it is not in it yet.
+     *
+     * Lock-free; O(log n) per attempt.
+     *
+     * @throws IllegalArgumentException if the data is null
+     * @param data the data to be added
+     */
+    public void add(T data) {
+        while (true) {
+            PersistentNode<T> current = root.get();
+            PersistentNode<T> updated = insert(current, data);
+            if (updated == current || root.compareAndSet(current, updated)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes the data from the current version.
+     *
+     * Lock-free; O(log n) per attempt.
+     *
+     * @throws IllegalArgumentException if the data is null
+     * @throws java.util.NoSuchElementException if the data is not found
+     * @param data the data to remove from the tree
+     * @return the data that was stored in the tree
+     */
+    public T remove(T data) {
+        while (true) {
+            PersistentNode<T> current = root.get();
+            PersistentNode<T> node = find(current, data);
+            if (node == null) {
+                throw new NoSuchElementException("The data is not found");
+            }
+            if (root.compareAndSet(current, delete(current, data))) {
+                return node.getData();
+            }
+        }
+    }
+
+    /**
+     * Returns the data in the current version equal to the parameter.
+     *
+     * Should run in O(log n).
+     *
+     * @throws IllegalArgumentException if the data is null
+     * @throws java.util.NoSuchElementException if the data is not found
+     * @param data the data to search for
+     * @return the data stored in the tree
+     */
+    public T get(T data) {
+        PersistentNode<T> node = find(root.get(), data);
+        if (node == null) {
+            throw new NoSuchElementException("data is not found in this tree");
+        }
+        return node.getData();
+    }
+
+    /**
+     * Returns whether data equal to the parameter is in the current
+     * version.
+     *
+     * Should run in O(log n).
+     *
+     * @throws IllegalArgumentException if the data is null
+     * @param data the data to search for
+     * @return whether the data is in the tree
+     */
+    public boolean contains(T data) {
+        return find(root.get(), data) != null;
+    }
+
+    /**
+     * Returns a tree whose current version is this tree's current version.
+     * Later updates to either tree are not visible in the other.
+     *
+     * Runs in O(1).
+     *
+     * @return the snapshot
+     */
+    public PersistentBST<T> snapshot() {
+        return new PersistentBST<>(root.get());
+    }
+
+    /**
+     * Returns the version with the data added, sharing all nodes off the
+     * search path with the given version. The given version must be an AVL
+     * tree, as every version built by this class is.
+     *
+     * Should run in O(log n).
+     *
+     * @throws IllegalArgumentException if the data is null
+     * @param root the root of the version to add to, may be null
+     * @param data the data to be added
+     * @param <T> the type of the data
+     * @return the root of the new version, root itself if it already holds
+     * the data
+     */
+    public static <T extends Comparable<? super T>> PersistentNode<T> insert(
+            PersistentNode<T> root, T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("The added data cannot be null");
+        }
+        List<PersistentNode<T>> path = new ArrayList<>();
+        PersistentNode<T> curr = root;
+        while (curr != null) {
+            int i = data.compareTo(curr.getData());
+            if (i == 0) {
+                return root;
+            }
+            path.add(curr);
+            curr = i < 0 ? curr.getLeft() : curr.getRight();
+        }
+        return copyPath(path, data, new PersistentNode<>(data, null, null));
+    }
+
+    /**
+     * Returns the version with the data removed, sharing all nodes off the
+     * search path with the given version. A node with two children is
+     * replaced by a copy holding its successor. The given version must be
+     * an AVL tree, as every version built by this class is.
+     *
+     * Should run in O(log n).
+     *
+     * @throws IllegalArgumentException if the data is null
+     * @throws java.util.NoSuchElementException if the data is not found
+     * @param root the root of the version to remove from, may be null
+     * @param data the data to remove
+     * @param <T> the type of the data
+     * @return the root of the new version
+     */
+    public static <T extends Comparable<? super T>> PersistentNode<T> delete(
+            PersistentNode<T> root, T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "The data you want to remove cannot be null.");
+        }
+        List<PersistentNode<T>> path = new ArrayList<>();
+        PersistentNode<T> curr = root;
+        while (curr != null) {
+            int i = data.compareTo(curr.getData());
+            if (i == 0) {
+                break;
+            }
+            path.add(curr);
+            curr = i < 0 ? curr.getLeft() : curr.getRight();
+        }
+        if (curr == null) {
+            throw new NoSuchElementException("The data is not found");
+        }
+        PersistentNode<T> replacement;
+        if (curr.getLeft() == null) {
+            replacement = curr.getRight();
+        } else if (curr.getRight() == null) {
+            replacement = curr.getLeft();
+        } else {
+            List<PersistentNode<T>> leftPath = new ArrayList<>();
+            PersistentNode<T> successor = curr.getRight();
+            while (successor.getLeft() != null) {
+                leftPath.add(successor);
+                successor = successor.getLeft();
+            }
+            PersistentNode<T> right = successor.getRight();
+            for (int k = leftPath.size() - 1; k >= 0; k--) {
+                PersistentNode<T> node = leftPath.get(k);
+                right = balanced(node.getData(), right, node.getRight());
+            }
+            replacement = balanced(successor.getData(), curr.getLeft(),
+                    right);
+        }
+        return copyPath(path, data, replacement);
+    }
+
+    /**
+     * Rebuilds a search path bottom-up around a new subtree: each node on
+     * the path is copied, rebalanced, with the side facing data replaced by
+     * the copy below it.
+     *
+     * @param path the nodes from the root down to the parent of the
+     * replaced subtree
+     * @param data the data whose search produced the path
+     * @param subtree the new subtree at the bottom of the path, may be null
+     * @param <T> the type of the data
+     * @return the root of the new version
+     */
+    private static <T extends Comparable<? super T>> PersistentNode<T>
+            copyPath(List<PersistentNode<T>> path, T data,
+            PersistentNode<T> subtree) {
+        PersistentNode<T> child = subtree;
+        for (int k = path.size() - 1; k >= 0; k--) {
+            PersistentNode<T> node = path.get(k);
+            if (data.compareTo(node.getData()) < 0) {
+                child = balanced(node.getData(), child, node.getRight());
+            } else {
+                child = balanced(node.getData(), node.getLeft(), child);
+            }
+        }
+        return child;
+    }
+
+    /**
+     * Builds a node from its data and two AVL subtrees whose heights differ
+     * by at most two, rotating once or twice if they differ by two. Only
+     * the nodes whose children change are built anew; every other subtree
+     * is shared.
+     *
+     * @param data the data of the node
+     * @param left the left subtree, may be null
+     * @param right the right subtree, may be null
+     * @param <T> the type of the data
+     * @return the root of the balanced subtree
+     */
+    private static <T extends Comparable<? super T>> PersistentNode<T>
+            balanced(T data, PersistentNode<T> left,
+            PersistentNode<T> right) {
+        int leftHeight = PersistentNode.heightOf(left);
+        int rightHeight = PersistentNode.heightOf(right);
+        if (leftHeight > rightHeight + 1) {
+            PersistentNode<T> outer = left.getLeft();
+            PersistentNode<T> inner = left.getRight();
+            if (PersistentNode.heightOf(outer)
+                    >= PersistentNode.heightOf(inner)) {
+                return new PersistentNode<>(left.getData(), outer,
+                        new PersistentNode<>(data, inner, right));
+            }
+            return new PersistentNode<>(inner.getData(),
+                    new PersistentNode<>(left.getData(), outer,
+                            inner.getLeft()),
+                    new PersistentNode<>(data, inner.getRight(), right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            PersistentNode<T> outer = right.getRight();
+            PersistentNode<T> inner = right.getLeft();
+            if (PersistentNode.heightOf(outer)
+                    >= PersistentNode.heightOf(inner)) {
+                return new PersistentNode<>(right.getData(),
+                        new PersistentNode<>(data, left, inner), outer);
+            }
+            return new PersistentNode<>(inner.getData(),
+                    new PersistentNode<>(data, left, inner.getLeft()),
+                    new PersistentNode<>(right.getData(), inner.getRight(),
+                            outer));
+        }
+        return new PersistentNode<>(data, left, right);
+    }
+
+    /**
+     * Returns the node of a version holding data equal to the parameter.
+     *
+     * @throws IllegalArgumentException if the data is null
+     * @param root the root of the version to search
+     * @param data the data to search for
+     * @return the node holding the data, null if there is none
+     */
+    private PersistentNode<T> find(PersistentNode<T> root, T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        PersistentNode<T> curr = root;
+        while (curr != null) {
+            int i = data.compareTo(curr.getData());
+            if (i == 0) {
+                return curr;
+            }
+            curr = i < 0 ? curr.getLeft() : curr.getRight();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the data of the current version in sorted order.
+     *
+     * Should run in O(n).
+     *
+     * @return an inorder traversal of the tree
+     */
+    public List<T> inorder() {
+        PersistentNode<T> curr = root.get();
+        List<T> list = new ArrayList<>(PersistentNode.sizeOf(curr));
+        Deque<PersistentNode<T>> stack = new ArrayDeque<>();
+        while (curr != null || !stack.isEmpty()) {
+            while (curr != null) {
+                stack.push(curr);
+                curr = curr.getLeft();
+            }
+            curr = stack.pop();
+            list.add(curr.getData());
+            curr = curr.getRight();
+        }
+        return list;
+    }
+
+    /**
+     * Makes the current version the empty tree.
+     */
+    public void clear() {
+        root.set(null);
+    }
+
+    /**
+     * Returns the number of data in the current version.
+     *
+     * Runs in O(1).
+     *
+     * @return the size of the tree
+     */
+    public int size() {
+        return PersistentNode.sizeOf(root.get());
+    }
+
+    /**
+     * Returns the root of the current version. The nodes are immutable, so
+     * the returned version stays valid however the tree changes later.
+     *
+     * @return the root of the tree
+     */
+    public PersistentNode<T> getRoot() {
+        return root.get();
+    }
+}
@@ -0,0 +1,280 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for PersistentBST: old versions and snapshots must never change,
+ * updates must copy only the search path, every version must stay
+ * balanced, and concurrent writers must not lose updates.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class PersistentBSTTests {
+    private PersistentBST<Integer> tree;
+
+    public static final int TIMEOUT = 5000;
+
+    @Before
+    public void setUp() {
+        tree = new PersistentBST<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testBasicOperations() {
+        for (int i : new int[] {50, 25, 75, 10, 30, 60, 90, 25}) {
+            tree.add(i);
+        }
+        assertEquals(7, tree.size());
+        assertEquals(Arrays.asList(10, 25, 30, 50, 60, 75, 90),
+                tree.inorder());
+        assertTrue(tree.contains(60));
+        assertFalse(tree.contains(61));
+        assertEquals((Integer) 30, tree.get(30));
+
+        assertEquals((Integer) 50, tree.remove(50));
+        assertEquals((Integer) 60, tree.getRoot().getData());
+        assertEquals((Integer) 10, tree.remove(10));
+        assertEquals((Integer) 25, tree.remove(25));
+        assertEquals(Arrays.asList(30, 60, 75, 90), tree.inorder());
+        assertEquals(4, tree.size());
+        tree.clear();
+        assertNull(tree.getRoot());
+        assertEquals(0, tree.size());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveMissing() {
+        tree.add(1);
+        tree.remove(2);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        tree.add(null);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSnapshotIsIsolated() {
+        for (int i = 0; i < 10; i++) {
+            tree.add(i * 2);
+        }
+        PersistentBST<Integer> snapshot = tree.snapshot();
+        PersistentNode<Integer> version = tree.getRoot();
+        tree.add(5);
+        tree.remove(0);
+        snapshot.add(99);
+
+        assertEquals(Arrays.asList(0, 2, 4, 6, 8, 10, 12, 14, 16, 18),
+                inorderOf(version));
+        assertEquals(11, snapshot.size());
+        assertTrue(snapshot.contains(0));
+        assertFalse(snapshot.contains(5));
+        assertFalse(tree.contains(99));
+        assertEquals(10, tree.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testUpdatesShareUntouchedSubtrees() {
+        for (int i : new int[] {50, 25, 75, 10, 30, 60, 90}) {
+            tree.add(i);
+        }
+        PersistentNode<Integer> before = tree.getRoot();
+        tree.add(95);
+        PersistentNode<Integer> after = tree.getRoot();
+        assertNotSame(before, after);
+        assertSame(before.getLeft(), after.getLeft());
+        assertNotSame(before.getRight(), after.getRight());
+        assertSame(before.getRight().getLeft(), after.getRight().getLeft());
+        assertEquals(7, before.getSize());
+        assertEquals(8, after.getSize());
+
+        PersistentNode<Integer> same = PersistentBST.insert(after, 60);
+        assertSame(after, same);
+
+        PersistentNode<Integer> removed = PersistentBST.delete(after, 25);
+        assertSame(after.getRight(), removed.getRight());
+        assertEquals((Integer) 30, removed.getLeft().getData());
+        assertSame(after.getLeft().getLeft(), removed.getLeft().getLeft());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRotationSharesUntouchedSubtrees() {
+        for (int i = 1; i <= 7; i++) {
+            tree.add(i);
+        }
+        assertEquals((Integer) 4, tree.getRoot().getData());
+        assertEquals(3, tree.getRoot().getHeight());
+        PersistentNode<Integer> before = tree.getRoot();
+        tree.add(8);
+        tree.add(9);
+        PersistentNode<Integer> after = tree.getRoot();
+        assertSame(before.getLeft(), after.getLeft());
+        assertEquals((Integer) 8, after.getRight().getRight().getData());
+        assertSame(before.getRight().getLeft(),
+                after.getRight().getLeft());
+        assertEquals((Integer) 7,
+                after.getRight().getRight().getLeft().getData());
+        assertEquals((Integer) 9,
+                after.getRight().getRight().getRight().getData());
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7),
+                inorderOf(before));
+        assertBalanced(after);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSortedUpdatesCopyLogarithmicNodes() {
+        int n = 1 << 12;
+        int bound = 2 * 12 + 2;
+        Set<PersistentNode<Integer>> seen = Collections.newSetFromMap(
+                new IdentityHashMap<>());
+        for (int i = 0; i < n; i++) {
+            tree.add(i);
+            assertTrue(countNew(tree.getRoot(), seen) <= bound);
+        }
+        assertTrue(tree.getRoot().getHeight() <= bound);
+        assertBalanced(tree.getRoot());
+        for (int i = 0; i < n / 2; i++) {
+            tree.remove(i);
+            assertTrue(countNew(tree.getRoot(), seen) <= bound);
+        }
+        assertBalanced(tree.getRoot());
+        assertEquals(n / 2, tree.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDegenerateShapeDoesNotOverflow() {
+        int n = 3000;
+        for (int i = 0; i < n; i++) {
+            tree.add(i);
+        }
+        assertEquals(n, tree.size());
+        assertEquals((Integer) (n - 1), tree.get(n - 1));
+        assertEquals((Integer) (n - 1), tree.remove(n - 1));
+        assertEquals(n - 1, tree.inorder().size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMatchesTreeSetUnderRandomOperations() {
+        Random random = new Random(1332);
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 20000; i++) {
+            Integer key = random.nextInt(500);
+            int op = random.nextInt(3);
+            if (op == 0) {
+                expected.add(key);
+                tree.add(key);
+            } else if (op == 1) {
+                assertEquals(expected.contains(key), tree.contains(key));
+            } else if (expected.remove(key)) {
+                assertEquals(key, tree.remove(key));
+            }
+            assertEquals(expected.size(), tree.size());
+        }
+        assertEquals(new ArrayList<>(expected), tree.inorder());
+        assertBalanced(tree.getRoot());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testConcurrentWritersLoseNoUpdates() throws Exception {
+        int writers = 4;
+        int perWriter = 2000;
+        Thread[] threads = new Thread[writers];
+        for (int w = 0; w < writers; w++) {
+            int offset = w;
+            threads[w] = new Thread(() -> {
+                for (int i = 0; i < perWriter; i++) {
+                    tree.add(i * writers + offset);
+                    if (i % 16 == 0) {
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+        PersistentBST<Integer> empty = tree.snapshot();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (int i = 0; i < 100; i++) {
+            PersistentBST<Integer> snapshot = tree.snapshot();
+            assertEquals(snapshot.size(), snapshot.inorder().size());
+            Thread.yield();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(writers * perWriter, tree.size());
+        assertEquals(0, empty.size());
+        for (int i = 0; i < writers * perWriter; i++) {
+            assertTrue(tree.contains(i));
+        }
+    }
+
+    /**
+     * Counts the nodes of a version not seen in any earlier version, and
+     * marks them as seen. Nodes are immutable, so the subtree of a node
+     * already seen holds only nodes already seen.
+     *
+     * @param root the root of the version
+     * @param seen the nodes of the earlier versions
+     * @return the number of new nodes
+     */
+    private static int countNew(PersistentNode<Integer> root,
+            Set<PersistentNode<Integer>> seen) {
+        if (root == null || !seen.add(root)) {
+            return 0;
+        }
+        return 1 + countNew(root.getLeft(), seen)
+                + countNew(root.getRight(), seen);
+    }
+
+    /**
+     * Asserts that the heights stored in a version are correct and that
+     * the heights of sibling subtrees differ by at most one.
+     *
+     * @param root the root of the version
+     */
+    private static void assertBalanced(PersistentNode<Integer> root) {
+        if (root == null) {
+            return;
+        }
+        int left = PersistentNode.heightOf(root.getLeft());
+        int right = PersistentNode.heightOf(root.getRight());
+        assertTrue(Math.abs(left - right) <= 1);
+        assertEquals(1 + Math.max(left, right), root.getHeight());
+        assertBalanced(root.getLeft());
+        assertBalanced(root.getRight());
+    }
+
+    /**
+     * Collects the data of a version in sorted order.
+     *
+     * @param root the root of the version
+     * @return the data in sorted order
+     */
+    private static ArrayList<Integer> inorderOf(
+            PersistentNode<Integer> root) {
+        ArrayList<Integer> list = new ArrayList<>();
+        if (root != null) {
+            list.addAll(inorderOf(root.getLeft()));
+            list.add(root.getData());
+            list.addAll(inorderOf(root.getRight()));
+        }
+        return list;
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * This class represents an immutable node in PersistentBST. Once built, a
+ * node never changes, so any number of tree versions can share it. Each
+ * node also stores the number of nodes in its subtree, which gives every
+ * version an O(1) size, and the height of its subtree, which PersistentBST
+ * uses to keep every version AVL-balanced.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public final class PersistentNode<T extends Comparable<? super T>> {
+    private final T data;
+    private final PersistentNode<T> left;
+    private final PersistentNode<T> right;
+    private final int size;
+    private final int height;
+
+    /**
+     * Create a node with the specified data and children.
+     *
+     * @param data the data to be stored in this node
+     * @param left the left child, may be null
+     * @param right the right child, may be null
+     */
+    public PersistentNode(T data, PersistentNode<T> left,
+            PersistentNode<T> right) {
+        this.data = data;
+        this.left = left;
+        this.right = right;
+        this.size = 1 + sizeOf(left) + sizeOf(right);
+        this.height = 1 + Math.max(heightOf(left), heightOf(right));
+    }
+
+    /**
+     * Returns the number of nodes in a possibly empty subtree.
+     *
+     * @param node the root of the subtree, may be null
+     * @param <T> the type of the data
+     * @return the size of the subtree
+     */
+    public static <T extends Comparable<? super T>> int sizeOf(
+            PersistentNode<T> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Returns the height of a possibly empty subtree, a leaf having height
+     * 1.
+     *
+     * @param node the root of the subtree, may be null
+     * @param <T> the type of the data
+     * @return the height of the subtree, 0 if it is empty
+     */
+    public static <T extends Comparable<? super T>> int heightOf(
+            PersistentNode<T> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Get the data in this node.
+     *
+     * @return data in this node
+     */
+    public T getData() {
+        return data;
+    }
+
+    /**
+     * Get the node to the left of this node.
+     *
+     * @return node to the left
+     */
+    public PersistentNode<T> getLeft() {
+        return left;
+    }
+
+    /**
+     * Get the node to the right of this node.
+     *
+     * @return node to the right
+     */
+    public PersistentNode<T> getRight() {
+        return right;
+    }
+
+    /**
+     * Get the number of nodes in the subtree rooted at this node.
+     *
+     * @return the subtree size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Get the height of the subtree rooted at this node.
+     *
+     * @return the subtree height, 1 for a leaf
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public String toString() {
+        return "Node containing: " + data + " (size " + size + ")";
+    }
+}
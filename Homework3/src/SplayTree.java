@@ -0,0 +1,298 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+
+/**
+ * A self-adjusting binary search tree with the same operations as BST.
+ * Every add, remove, get and contains splays the searched data, or the
+ * last node on its search path, to the root, so frequently used data
+ * stays near the top and any sequence of m operations costs
+ * O(m log n) in total.
+ *
+ * Splaying is top-down: on the way down the search path the tree is split
+ * into a left tree of smaller and a right tree of larger nodes, with
+ * zig-zig steps rotated first, and the three parts are joined at the end.
+ * It needs no parent links, no recursion and no second pass up the tree.
+ *
+ * @author Yuqi Cao
+ * @userid ycao344
+ * @GTID 903352025
+ * @version 1.0
+ */
+public class SplayTree<T extends Comparable<? super T>> {
+    private final BSTNode<T> header = new BSTNode<>(null);
+    private BSTNode<T> root;
+    private int size;
+
+    /**
+     * Adds the data to the tree if it is not there yet. Either way, the
+     * node holding the data ends up at the root.
+     *
+     * Amortized O(log n).
+     *
+     * @throws IllegalArgumentException if the data is null
+     * @param data the data to be added
+     */
+    public void add(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("The added data cannot be null");
+        }
+        if (root == null) {
+            root = new BSTNode<>(data);
+            size++;
+            return;
+        }
+        splay(data);
+        int i = data.compareTo(root.getData());
+        if (i == 0) {
+            return;
+        }
+        BSTNode<T> node = new BSTNode<>(data);
+        if (i < 0) {
+            node.setLeft(root.getLeft());
+            node.setRight(root);
+            root.setLeft(null);
+        } else {
+            node.setRight(root.getRight());
+            node.setLeft(root);
+            root.setRight(null);
+        }
+        root = node;
+        size++;
+    }
+
+    /**
+     * Removes the data from the tree. The data is splayed to the root, then
+     * the largest data of its left subtree is splayed up to take its place.
+     *
+     * Amortized O(log n).
+     *
+     * @throws IllegalArgumentException if the data is null
+     * @throws java.util.NoSuchElementException if the data is not found
+     * @param data the data to remove from the tree
+     * @return the data that was stored in the tree
+     */
+    public T remove(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "The data you want to remove cannot be null.");
+        }
+        if (!contains(data)) {
+            throw new NoSuchElementException("The data is not found");
+        }
+        T removed = root.getData();
+        BSTNode<T> right = root.getRight();
+        if (root.getLeft() == null) {
+            root = right;
+        } else {
+            root = root.getLeft();
+            splay(data);
+            root.setRight(right);
+        }
+        size--;
+        return removed;
+    }
+
+    /**
+     * Returns the data in the tree equal to the parameter, after splaying
+     * it to the root.
+     *
+     * Amortized O(log n).
+     *
+     * @throws IllegalArgumentException if the data is null
+     * @throws java.util.NoSuchElementException if the data is not found
+     * @param data the data to search for
+     * @return the data stored in the tree
+     */
+    public T get(T data) {
+        if (!contains(data)) {
+            throw new NoSuchElementException("data is not found in this tree");
+        }
+        return root.getData();
+    }
+
+    /**
+     * Returns whether data equal to the parameter is in the tree. The data,
+     * or the last node on its search path, is splayed to the root.
+     *
+     * Amortized O(log n).
+     *
+     * @throws IllegalArgumentException if the data is null
+     * @param data the data to search for
+     * @return whether the data is in the tree
+     */
+    public boolean contains(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        if (root == null) {
+            return false;
+        }
+        splay(data);
+        return root.getData().compareTo(data) == 0;
+    }
+
+    /**
+     * Top-down splay: makes the node holding data, or the last node on its
+     * search path, the root.
+     *
+     * @param data the data to splay for
+     */
+    private void splay(T data) {
+        BSTNode<T> leftMax = header;
+        BSTNode<T> rightMin = header;
+        header.setLeft(null);
+        header.setRight(null);
+        BSTNode<T> t = root;
+        while (true) {
+            int i = data.compareTo(t.getData());
+            if (i < 0) {
+                if (t.getLeft() == null) {
+                    break;
+                }
+                if (data.compareTo(t.getLeft().getData()) < 0) {
+                    BSTNode<T> child = t.getLeft();
+                    t.setLeft(child.getRight());
+                    child.setRight(t);
+                    t = child;
+                    if (t.getLeft() == null) {
+                        break;
+                    }
+                }
+                rightMin.setLeft(t);
+                rightMin = t;
+                t = t.getLeft();
+            } else if (i > 0) {
+                if (t.getRight() == null) {
+                    break;
+                }
+                if (data.compareTo(t.getRight().getData()) > 0) {
+                    BSTNode<T> child = t.getRight();
+                    t.setRight(child.getLeft());
+                    child.setLeft(t);
+                    t = child;
+                    if (t.getRight() == null) {
+                        break;
+                    }
+                }
+                leftMax.setRight(t);
+                leftMax = t;
+                t = t.getRight();
+            } else {
+                break;
+            }
+        }
+        leftMax.setRight(t.getLeft());
+        rightMin.setLeft(t.getRight());
+        t.setLeft(header.getRight());
+        t.setRight(header.getLeft());
+        header.setLeft(null);
+        header.setRight(null);
+        root = t;
+    }
+
+    /**
+     * Should run in O(n). Does not splay.
+     *
+     * @return a preorder traversal of the tree
+     */
+    public List<T> preorder() {
+        return toList(new BSTPreorderIterator<>(root));
+    }
+
+    /**
+     * Should run in O(n). Does not splay.
+     *
+     * @return an inorder traversal of the tree
+     */
+    public List<T> inorder() {
+        return toList(new BSTInorderIterator<>(root, null, null));
+    }
+
+    /**
+     * Should run in O(n). Does not splay.
+     *
+     * @return a postorder traversal of the tree
+     */
+    public List<T> postorder() {
+        return toList(new BSTPostorderIterator<>(root));
+    }
+
+    /**
+     * Should run in O(n). Does not splay.
+     *
+     * @return a level order traversal of the tree
+     */
+    public List<T> levelorder() {
+        return toList(new BSTLevelorderIterator<>(root));
+    }
+
+    /**
+     * Drains an iterator into a list.
+     *
+     * @param iterator the iterator to drain
+     * @return a list of the data in iteration order
+     */
+    private List<T> toList(Iterator<T> iterator) {
+        List<T> list = new ArrayList<>(size);
+        iterator.forEachRemaining(list::add);
+        return list;
+    }
+
+    /**
+     * Clears the tree.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the height of the root, counted level by level.
+     *
+     * Should be calculated in O(n).
+     *
+     * @return the height of the root of the tree, -1 if the tree is empty
+     */
+    public int height() {
+        int height = -1;
+        Queue<BSTNode<T>> level = new ArrayDeque<>();
+        if (root != null) {
+            level.add(root);
+        }
+        while (!level.isEmpty()) {
+            height++;
+            for (int i = level.size(); i > 0; i--) {
+                BSTNode<T> node = level.poll();
+                if (node.getLeft() != null) {
+                    level.add(node.getLeft());
+                }
+                if (node.getRight() != null) {
+                    level.add(node.getRight());
+                }
+            }
+        }
+        return height;
+    }
+
+    /**
+     * Returns the number of data in the tree.
+     *
+     * @return the size of the tree
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the root of the tree, for testing.
+     *
+     * @return the root of the tree
+     */
+    public BSTNode<T> getRoot() {
+        return root;
+    }
+}
@@ -0,0 +1,144 @@
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * Benchmark for lookups under skewed access. The same keys are added in
+ * random order to a BST, a SplayTree and a java.util.TreeMap, then all
+ * three answer the same stream of gets whose keys follow a Zipf
+ * distribution: the key of popularity rank r is drawn with probability
+ * proportional to 1 / r^s. Ranks are mapped to keys by a random
+ * permutation, so the hot keys are scattered over the key range.
+ *
+ * An exponent of 0 is uniform access, where splaying only adds rotations;
+ * the larger the exponent, the more the splay tree gains from keeping the
+ * hot keys near its root. TreeMap, a red-black tree, stands in as the
+ * balanced reference.
+ *
+ * Run with {@code java SplayTreeBenchmark [keys] [lookups] [rounds]}.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class SplayTreeBenchmark {
+    private static final double[] EXPONENTS = {0.0, 0.8, 1.0, 1.2, 1.5};
+
+    /**
+     * Runs the benchmark and prints the mean time per lookup.
+     *
+     * @param args optional key count, lookup count and number of rounds
+     */
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        int lookups = args.length > 1 ? Integer.parseInt(args[1]) : 5000000;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        Random random = new Random(1332);
+        Integer[] keys = shuffled(n, random);
+        Integer[] byRank = shuffled(n, random);
+
+        BST<Integer> bst = new BST<>();
+        SplayTree<Integer> splay = new SplayTree<>();
+        TreeMap<Integer, Integer> map = new TreeMap<>();
+        for (Integer key : keys) {
+            bst.add(key);
+            splay.add(key);
+            map.put(key, key);
+        }
+        System.out.printf("%-6s %10s %10s %10s %12s%n", "s", "BST ns",
+                "Splay ns", "TreeMap ns", "splay height");
+        for (int round = 0; round < rounds; round++) {
+            for (double s : EXPONENTS) {
+                Integer[] stream = zipfStream(byRank, s, lookups, random);
+                long checksum = 0;
+                long start = System.nanoTime();
+                for (Integer key : stream) {
+                    checksum += bst.get(key);
+                }
+                double bstTime = perLookup(start, stream);
+
+                start = System.nanoTime();
+                for (Integer key : stream) {
+                    checksum += splay.get(key);
+                }
+                double splayTime = perLookup(start, stream);
+
+                start = System.nanoTime();
+                for (Integer key : stream) {
+                    checksum += map.get(key);
+                }
+                double mapTime = perLookup(start, stream);
+                long expected = 0;
+                for (Integer key : stream) {
+                    expected += 3L * key;
+                }
+                if (checksum != expected) {
+                    throw new IllegalStateException("checksum mismatch");
+                }
+                System.out.printf("%-6.1f %10.1f %10.1f %10.1f %12d%n", s,
+                        bstTime, splayTime, mapTime, splay.height());
+            }
+        }
+    }
+
+    /**
+     * Returns the integers 0 to n - 1, boxed and in random order.
+     *
+     * @param n the number of integers
+     * @param random the source of randomness
+     * @return the shuffled integers
+     */
+    private static Integer[] shuffled(int n, Random random) {
+        Integer[] values = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Integer swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+        return values;
+    }
+
+    /**
+     * Draws lookup keys from a Zipf distribution by binary search over the
+     * cumulative weights of the ranks.
+     *
+     * @param byRank the key of each popularity rank, most popular first
+     * @param s the Zipf exponent
+     * @param count the number of keys to draw
+     * @param random the source of randomness
+     * @return the drawn keys
+     */
+    private static Integer[] zipfStream(Integer[] byRank, double s, int count,
+            Random random) {
+        double[] cumulative = new double[byRank.length];
+        double total = 0;
+        for (int r = 0; r < byRank.length; r++) {
+            total += 1 / Math.pow(r + 1, s);
+            cumulative[r] = total;
+        }
+        Integer[] stream = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            int r = Arrays.binarySearch(cumulative,
+                    random.nextDouble() * total);
+            if (r < 0) {
+                r = -r - 1;
+            }
+            stream[i] = byRank[Math.min(r, byRank.length - 1)];
+        }
+        return stream;
+    }
+
+    /**
+     * Returns the mean time per lookup since start.
+     *
+     * @param start the start time in ns
+     * @param stream the keys that were looked up
+     * @return the mean time per lookup in ns
+     */
+    private static double perLookup(long start, Integer[] stream) {
+        return (double) (System.nanoTime() - start) / stream.length;
+    }
+}
@@ -0,0 +1,152 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for SplayTree: results must match a TreeSet, every access must
+ * leave the accessed data at the root, and degenerate shapes must not
+ * overflow the stack.
+ *
+ * @author Yuqi Cao
+ * @version 1.0
+ */
+public class SplayTreeTests {
+    private SplayTree<Integer> tree;
+
+    public static final int TIMEOUT = 2000;
+
+    @Before
+    public void setUp() {
+        tree = new SplayTree<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAccessSplaysToRoot() {
+        for (int i : new int[] {50, 25, 75, 10, 30, 60, 90}) {
+            tree.add(i);
+            assertEquals((Integer) i, tree.getRoot().getData());
+        }
+        assertEquals(7, tree.size());
+        assertEquals((Integer) 30, tree.get(30));
+        assertEquals((Integer) 30, tree.getRoot().getData());
+        assertTrue(tree.contains(90));
+        assertEquals((Integer) 90, tree.getRoot().getData());
+
+        assertFalse(tree.contains(55));
+        int root = tree.getRoot().getData();
+        assertTrue(root == 50 || root == 60);
+
+        tree.add(60);
+        assertEquals(7, tree.size());
+        assertEquals((Integer) 60, tree.getRoot().getData());
+        assertEquals(Arrays.asList(10, 25, 30, 50, 60, 75, 90),
+                tree.inorder());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemove() {
+        for (int i : new int[] {50, 25, 75, 10, 30, 60, 90}) {
+            tree.add(i);
+        }
+        Integer stored = tree.get(25);
+        assertSame(stored, tree.remove(25));
+        assertEquals((Integer) 10, tree.getRoot().getData());
+        assertEquals(6, tree.size());
+        assertEquals(Arrays.asList(10, 30, 50, 60, 75, 90), tree.inorder());
+        assertEquals((Integer) 10, tree.remove(10));
+        assertEquals(Arrays.asList(30, 50, 60, 75, 90), tree.inorder());
+        for (int i : new int[] {30, 50, 60, 75, 90}) {
+            tree.remove(i);
+        }
+        assertEquals(0, tree.size());
+        assertNull(tree.getRoot());
+        assertEquals(-1, tree.height());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveMissing() {
+        tree.add(1);
+        tree.remove(2);
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testGetEmpty() {
+        tree.get(1);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        tree.add(null);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testTraversals() {
+        for (int i : new int[] {2, 1, 3}) {
+            tree.add(i);
+        }
+        tree.get(2);
+        assertEquals(Arrays.asList(2, 1, 3), tree.preorder());
+        assertEquals(Arrays.asList(1, 2, 3), tree.inorder());
+        assertEquals(Arrays.asList(1, 3, 2), tree.postorder());
+        assertEquals(Arrays.asList(2, 1, 3), tree.levelorder());
+        assertEquals(1, tree.height());
+        tree.clear();
+        assertEquals(0, tree.size());
+        assertEquals(new ArrayList<Integer>(), tree.inorder());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDegenerateShapeDoesNotOverflow() {
+        int n = 200000;
+        for (int i = 0; i < n; i++) {
+            tree.add(i);
+        }
+        assertEquals(n - 1, tree.height());
+        assertEquals((Integer) 0, tree.get(0));
+        assertEquals(n / 2, tree.height());
+        assertEquals((Integer) (n - 1), tree.remove(n - 1));
+        assertEquals(n - 1, tree.size());
+        assertEquals(n - 1, tree.inorder().size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMatchesTreeSetUnderRandomOperations() {
+        Random random = new Random(1332);
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 20000; i++) {
+            Integer key = random.nextInt(500);
+            int op = random.nextInt(3);
+            if (op == 0) {
+                expected.add(key);
+                tree.add(key);
+            } else if (op == 1) {
+                assertEquals(expected.contains(key), tree.contains(key));
+            } else if (expected.remove(key)) {
+                assertEquals(key, tree.remove(key));
+            } else {
+                try {
+                    tree.remove(key);
+                    fail();
+                } catch (NoSuchElementException e) {
+                    assertEquals(expected.size(), tree.size());
+                }
+            }
+            assertEquals(expected.size(), tree.size());
+        }
+        List<Integer> inorder = new ArrayList<>(expected);
+        assertEquals(inorder, tree.inorder());
+    }
+}